@@ -0,0 +1,2 @@
+@echo off
+mvn clean verify -Pbenchmark -DskipTests
@@ -0,0 +1 @@
+mvn clean verify -Pbenchmark -DskipTests
@@ -0,0 +1,68 @@
+package com.neylandev.delivery.benchmark;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.model.Delivery;
+import com.neylandev.delivery.infrastructure.email.DeliveryEmailTemplates;
+import com.samskivert.mustache.Mustache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.neylandev.delivery.DataForTests.deliveryEmailTemplates;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeliveryEmailTemplateBenchmark {
+
+    private static final String BODY_TEMPLATE = "<p>O produto de {{clientName}} foi recebido por {{recipientName}}</p>";
+
+    private final Mustache.Compiler compiler = Mustache.compiler().escapeHTML(true);
+
+    private DeliveryEmailTemplates deliveryEmailTemplates;
+    private Delivery delivery;
+
+    @Setup
+    public void setup() {
+        deliveryEmailTemplates = deliveryEmailTemplates();
+        delivery = deliveryValid();
+        delivery.complete();
+    }
+
+    @Benchmark
+    public DeliveryEmailDto precompiledTemplate() {
+        return deliveryEmailTemplates.render(delivery);
+    }
+
+    // custo evitado pelos templates pré-compilados: interpretar o template a cada email
+    @Benchmark
+    public String compilePerMessage() {
+        return compiler.compile(BODY_TEMPLATE).execute(Map.of(
+                "clientName", delivery.getClient().getName(),
+                "recipientName", delivery.getRecipient().getName()));
+    }
+
+    // formato anterior, em texto puro, como referência
+    @Benchmark
+    public DeliveryEmailDto stringFormat() {
+        return DeliveryEmailDto.builder()
+                .clientEmail(delivery.getClient().getEmail())
+                .subject("Produto recebido com sucesso")
+                .body(String.format("O produto de %s foi recebido por %s", delivery.getClient().getName(), delivery.getRecipient().getName()))
+                .build();
+    }
+}
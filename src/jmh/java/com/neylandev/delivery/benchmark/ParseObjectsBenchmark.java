@@ -0,0 +1,94 @@
+package com.neylandev.delivery.benchmark;
+
+import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import com.neylandev.delivery.application.response.ClientResponseDto;
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.application.response.OccurrenceResponseDto;
+import com.neylandev.delivery.domain.model.Client;
+import com.neylandev.delivery.domain.model.Delivery;
+import com.neylandev.delivery.domain.model.Occurrence;
+import com.neylandev.delivery.domain.utils.ParseObjects;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.neylandev.delivery.DataForTests.clientValid;
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static com.neylandev.delivery.DataForTests.occurrenceValid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseObjectsBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Client client;
+    private Delivery delivery;
+    private DeliveryRequestDto deliveryRequestDto;
+    private Occurrence occurrence;
+
+    @Setup
+    public void setup() {
+        client = clientValid();
+        delivery = deliveryValid();
+        deliveryRequestDto = deliveryRequestDtoValid();
+        occurrence = occurrenceValid();
+        modelMapper.map(delivery, DeliveryResponseDto.class);
+        modelMapper.map(deliveryRequestDto, Delivery.class);
+    }
+
+    @Benchmark
+    public ClientResponseDto clientToClientResponseDto() {
+        return ParseObjects.clientToClientResponseDto(client);
+    }
+
+    @Benchmark
+    public ClientResponseDto clientToClientResponseDtoModelMapper() {
+        return modelMapper.map(client, ClientResponseDto.class);
+    }
+
+    @Benchmark
+    public DeliveryResponseDto deliveryToDeliveryResponseDto() {
+        return ParseObjects.deliveryToDeliveryResponseDto(delivery);
+    }
+
+    @Benchmark
+    public DeliveryResponseDto deliveryToDeliveryResponseDtoModelMapper() {
+        return modelMapper.map(delivery, DeliveryResponseDto.class);
+    }
+
+    @Benchmark
+    public Delivery deliveryRequestDtoToDelivery() {
+        return ParseObjects.deliveryRequestDtoToDelivery(deliveryRequestDto);
+    }
+
+    @Benchmark
+    public Delivery deliveryRequestDtoToDeliveryModelMapper() {
+        return modelMapper.map(deliveryRequestDto, Delivery.class);
+    }
+
+    @Benchmark
+    public OccurrenceResponseDto occurrenceToOccurrenceResponseDto() {
+        return ParseObjects.occurrenceToOccurrenceResponseDto(occurrence);
+    }
+
+    @Benchmark
+    public OccurrenceResponseDto occurrenceToOccurrenceResponseDtoModelMapper() {
+        return modelMapper.map(occurrence, OccurrenceResponseDto.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.neylandev.delivery.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.neylandev.delivery.DataForTests.deliveryResponseDtoValid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ObjectWriter objectWriter;
+    private List<DeliveryResponseDto> deliveryResponseDtoList;
+
+    @Setup
+    public void setup() {
+        objectWriter = Jackson2ObjectMapperBuilder.json().build().writer();
+        deliveryResponseDtoList = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            var deliveryResponseDto = deliveryResponseDtoValid();
+            deliveryResponseDto.setId(id);
+            deliveryResponseDtoList.add(deliveryResponseDto);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeDeliveryResponseDtoList() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(deliveryResponseDtoList);
+    }
+}
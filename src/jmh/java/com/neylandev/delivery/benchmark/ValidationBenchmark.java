@@ -0,0 +1,74 @@
+package com.neylandev.delivery.benchmark;
+
+import com.neylandev.delivery.application.request.ClientRequestDto;
+import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.neylandev.delivery.DataForTests.INVALID_NAME_WITH_FOUR_EQUALS_CHARACTERS_IN_SEQUENCE;
+import static com.neylandev.delivery.DataForTests.INVALID_TELEPHONE;
+import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private DeliveryRequestDto deliveryRequestDto;
+    private ClientRequestDto clientRequestDto;
+    private ClientRequestDto invalidClientRequestDto;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        deliveryRequestDto = deliveryRequestDtoValid();
+        clientRequestDto = clientRequestDtoValid();
+        invalidClientRequestDto = clientRequestDtoValid();
+        invalidClientRequestDto.setName(INVALID_NAME_WITH_FOUR_EQUALS_CHARACTERS_IN_SEQUENCE);
+        invalidClientRequestDto.setTelephone(INVALID_TELEPHONE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DeliveryRequestDto>> validateDeliveryRequestDto() {
+        return validator.validate(deliveryRequestDto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClientRequestDto>> validateClientRequestDto() {
+        return validator.validate(clientRequestDto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClientRequestDto>> validateClientRequestDtoWithInvalidNameAndTelephone() {
+        return validator.validate(invalidClientRequestDto);
+    }
+}
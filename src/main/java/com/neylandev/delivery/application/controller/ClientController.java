@@ -1,8 +1,12 @@
 package com.neylandev.delivery.application.controller;
 
 import com.neylandev.delivery.application.request.ClientRequestDto;
+import com.neylandev.delivery.application.request.ClientSearchRequestDto;
+import com.neylandev.delivery.application.response.ClientPageResponseDto;
 import com.neylandev.delivery.application.response.ClientResponseDto;
 import com.neylandev.delivery.domain.service.ClientService;
+import com.neylandev.delivery.domain.service.IdempotencyService;
+import com.neylandev.delivery.domain.utils.Constants;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
@@ -16,8 +20,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -29,6 +35,7 @@ import java.util.List;
 public class ClientController {
 
     private final ClientService clientService;
+    private final IdempotencyService idempotencyService;
 
     @ApiOperation(value = "Retorna todos clientes cadastrados", response = ClientResponseDto.class, responseContainer = "List")
     @ApiResponses(value = {
@@ -42,9 +49,23 @@ public class ClientController {
         return ResponseEntity.ok(clientService.findAll());
     }
 
+    @ApiOperation(value = "Busca clientes pelo início do nome, do email ou do telefone", response = ClientPageResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retornando página de clientes"),
+            @ApiResponse(code = 400, message = "Má solicitação para buscar clientes"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de clientes"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ClientPageResponseDto> search(ClientSearchRequestDto clientSearchRequestDto) {
+        return ResponseEntity.ok(clientService.search(clientSearchRequestDto));
+    }
+
     @ApiOperation(value = "Busca um cliente por id", response = ClientResponseDto.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Cliente encontrado"),
+            @ApiResponse(code = 304, message = "Cliente não foi modificado desde o ETag informado"),
             @ApiResponse(code = 400, message = "Má solicitação para buscar os dados do cliente"),
             @ApiResponse(code = 401, message = "Ausência de autorização"),
             @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de cliente por id"),
@@ -52,7 +73,11 @@ public class ClientController {
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @GetMapping("/{clientId}")
-    public ResponseEntity<ClientResponseDto> findById(@PathVariable Long clientId) {
+    public ResponseEntity<ClientResponseDto> findById(@PathVariable Long clientId, WebRequest webRequest) {
+        // o ETag vem do cliente em cache e é definido na resposta pelo checkNotModified
+        if (webRequest.checkNotModified(clientService.findETag(clientId))) {
+            return null;
+        }
         return ResponseEntity.ok(clientService.findById(clientId));
     }
 
@@ -66,8 +91,10 @@ public class ClientController {
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @PostMapping
-    public ResponseEntity<ClientResponseDto> create(@RequestBody @Valid ClientRequestDto clientRequestDto) {
-        return new ResponseEntity<>(clientService.create(clientRequestDto), HttpStatus.CREATED);
+    public ResponseEntity<ClientResponseDto> create(@RequestHeader(value = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                    @RequestBody @Valid ClientRequestDto clientRequestDto) {
+        return idempotencyService.execute(idempotencyKey, "clients", clientRequestDto, ClientResponseDto.class,
+                () -> new ResponseEntity<>(clientService.create(clientRequestDto), HttpStatus.CREATED));
     }
 
     @ApiOperation(value = "Atualiza dados de um cliente por id", response = ClientResponseDto.class)
@@ -77,6 +104,7 @@ public class ClientController {
             @ApiResponse(code = 401, message = "Ausência de autorização"),
             @ApiResponse(code = 403, message = "Usuário não autorizado a realizar atualização de cliente"),
             @ApiResponse(code = 404, message = "Cliente não encontrado"),
+            @ApiResponse(code = 409, message = "Conflito com dados que já estão cadastrado"),
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @PutMapping("/{clientId}")
@@ -0,0 +1,40 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.application.request.ClientDeliveryFilterRequestDto;
+import com.neylandev.delivery.application.response.DeliveryPageResponseDto;
+import com.neylandev.delivery.domain.service.DeliveryCreationService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/clients/{clientId}/deliveries")
+@RequiredArgsConstructor
+@Api(value = "/clients/{clientId}/deliveries", tags = "Endpoints responsáveis por consultar as entregas de um cliente")
+public class ClientDeliveryController {
+
+    private final DeliveryCreationService deliveryCreationService;
+
+    @ApiOperation(value = "Retorna uma página das entregas de um cliente, filtrando por status e paginando por cursor", response = DeliveryPageResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retornando página de entregas do cliente"),
+            @ApiResponse(code = 400, message = "Má solicitação para buscar as entregas do cliente"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de entregas do cliente"),
+            @ApiResponse(code = 404, message = "Cliente não encontrado"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @GetMapping
+    public ResponseEntity<DeliveryPageResponseDto> listAll(@PathVariable Long clientId,
+                                                           ClientDeliveryFilterRequestDto clientDeliveryFilterRequestDto) {
+        return ResponseEntity.ok(deliveryCreationService.findAllOfClient(clientId, clientDeliveryFilterRequestDto));
+    }
+
+}
@@ -1,23 +1,45 @@
 package com.neylandev.delivery.application.controller;
 
+import com.neylandev.delivery.application.request.DeliveryFilterRequestDto;
+import com.neylandev.delivery.application.request.DeliveryIdsRequestDto;
 import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import com.neylandev.delivery.application.request.DeliveryStatsFilterRequestDto;
+import com.neylandev.delivery.application.response.DeliveryBatchResponseDto;
+import com.neylandev.delivery.application.response.DeliveryPageResponseDto;
 import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.application.response.DeliveryStatsResponseDto;
+import com.neylandev.delivery.application.response.DeliveryTransitionResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryExportFormat;
 import com.neylandev.delivery.domain.service.DeliveryCompletionService;
 import com.neylandev.delivery.domain.service.DeliveryCreationService;
+import com.neylandev.delivery.domain.service.DeliveryEventService;
+import com.neylandev.delivery.domain.service.DeliveryExportService;
+import com.neylandev.delivery.domain.service.DeliveryStatsService;
+import com.neylandev.delivery.domain.service.IdempotencyService;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.domain.utils.DeliveryVersion;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -30,6 +52,10 @@ public class DeliveryController {
 
     private final DeliveryCreationService deliveryCreationService;
     private final DeliveryCompletionService deliveryCompletionService;
+    private final DeliveryExportService deliveryExportService;
+    private final IdempotencyService idempotencyService;
+    private final DeliveryEventService deliveryEventService;
+    private final DeliveryStatsService deliveryStatsService;
 
     @ApiOperation(value = "Cadastra uma nova entrega", response = DeliveryResponseDto.class)
     @ApiResponses(value = {
@@ -41,25 +67,85 @@ public class DeliveryController {
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @PostMapping
-    public ResponseEntity<DeliveryResponseDto> create(@RequestBody @Valid DeliveryRequestDto deliveryRequestDto) {
-        return new ResponseEntity<>(deliveryCreationService.save(deliveryRequestDto), HttpStatus.CREATED);
+    public ResponseEntity<DeliveryResponseDto> create(@RequestHeader(value = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                      @RequestBody @Valid DeliveryRequestDto deliveryRequestDto) {
+        return idempotencyService.execute(idempotencyKey, "deliveries", deliveryRequestDto, DeliveryResponseDto.class,
+                () -> new ResponseEntity<>(deliveryCreationService.save(deliveryRequestDto), HttpStatus.CREATED));
     }
 
-    @ApiOperation(value = "Retorna todas entregas cadastradas", response = DeliveryResponseDto.class, responseContainer = "List")
+    @ApiOperation(value = "Cadastra um lote de entregas, retornando o resultado de cada item", response = DeliveryBatchResponseDto.class)
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Retornando lista de entregas"),
+            @ApiResponse(code = 200, message = "Lote processado, verifique o status de cada item"),
+            @ApiResponse(code = 400, message = "Má solicitação para cadastrar o lote de entregas"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar cadastro de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<DeliveryBatchResponseDto> createBatch(@RequestBody List<DeliveryRequestDto> deliveryRequestDtos) {
+        return ResponseEntity.ok(deliveryCreationService.saveAll(deliveryRequestDtos));
+    }
+
+    @ApiOperation(value = "Retorna uma página de entregas cadastradas, filtradas e ordenadas da mais recente para a mais antiga", response = DeliveryPageResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retornando página de entregas"),
+            @ApiResponse(code = 400, message = "Má solicitação para buscar entregas"),
             @ApiResponse(code = 401, message = "Ausência de autorização"),
             @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de entregas"),
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @GetMapping
-    public ResponseEntity<List<DeliveryResponseDto>> listAll() {
-        return ResponseEntity.ok(deliveryCreationService.findAll());
+    public ResponseEntity<DeliveryPageResponseDto> listAll(DeliveryFilterRequestDto deliveryFilterRequestDto) {
+        return ResponseEntity.ok(deliveryCreationService.findAll(deliveryFilterRequestDto));
+    }
+
+    @ApiOperation(value = "Retorna as estatísticas de entregas por status, por dia do pedido e de ocorrências, mantidas incrementalmente", response = DeliveryStatsResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Retornando estatísticas de entregas"),
+            @ApiResponse(code = 400, message = "Má solicitação para buscar estatísticas de entregas"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de estatísticas de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<DeliveryStatsResponseDto> stats(DeliveryStatsFilterRequestDto deliveryStatsFilterRequestDto) {
+        return ResponseEntity.ok(deliveryStatsService.find(deliveryStatsFilterRequestDto));
+    }
+
+    @ApiOperation(value = "Abre um fluxo Server-Sent Events com os eventos de criação, finalização, cancelamento e ocorrências das entregas")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Fluxo de eventos aberto"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a acompanhar eventos de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestParam(required = false) Long clientId) {
+        return deliveryEventService.subscribe(clientId);
+    }
+
+    @ApiOperation(value = "Exporta as entregas filtradas em NDJSON ou CSV, escrevendo os registros conforme são lidos do banco")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Exportando entregas"),
+            @ApiResponse(code = 400, message = "Má solicitação para exportar entregas"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar exportação de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(DeliveryFilterRequestDto deliveryFilterRequestDto,
+                                                        @RequestParam(defaultValue = "NDJSON") DeliveryExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("deliveries." + format.getExtension()).build().toString())
+                .body(outputStream -> deliveryExportService.export(deliveryFilterRequestDto, format, outputStream));
     }
 
     @ApiOperation(value = "Busca uma entrega por id", response = DeliveryResponseDto.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Entrega encontrada"),
+            @ApiResponse(code = 304, message = "Entrega não foi modificada desde o ETag informado"),
             @ApiResponse(code = 400, message = "Má solicitação para buscar os dados de entrega"),
             @ApiResponse(code = 401, message = "Ausência de autorização"),
             @ApiResponse(code = 403, message = "Usuário não autorizado a realizar a busca de entrega por id"),
@@ -67,7 +153,15 @@ public class DeliveryController {
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @GetMapping("/{deliveryId}")
-    public ResponseEntity<DeliveryResponseDto> findById(@PathVariable Long deliveryId) {
+    public ResponseEntity<DeliveryResponseDto> findById(@PathVariable Long deliveryId, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            var deliveryResponseDto = deliveryCreationService.findById(deliveryId);
+            return ResponseEntity.ok().eTag(DeliveryVersion.of(deliveryResponseDto).eTag()).body(deliveryResponseDto);
+        }
+        // compara apenas os campos versionados da entrega em cache e responde 304; o ETag é definido pelo checkNotModified
+        if (webRequest.checkNotModified(deliveryCreationService.findVersion(deliveryId).eTag())) {
+            return null;
+        }
         return ResponseEntity.ok(deliveryCreationService.findById(deliveryId));
     }
 
@@ -101,4 +195,30 @@ public class DeliveryController {
         return ResponseEntity.noContent().build();
     }
 
+    @ApiOperation(value = "Finaliza um lote de entregas, retornando o resultado de cada id", response = DeliveryTransitionResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Lote processado, verifique o status de cada id"),
+            @ApiResponse(code = 400, message = "Má solicitação para finalizar entregas"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar finalização de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @PutMapping("/complete")
+    public ResponseEntity<DeliveryTransitionResponseDto> completeAll(@RequestBody @Valid DeliveryIdsRequestDto deliveryIdsRequestDto) {
+        return ResponseEntity.ok(deliveryCompletionService.completeAll(deliveryIdsRequestDto.getDeliveryIds()));
+    }
+
+    @ApiOperation(value = "Cancela um lote de entregas, retornando o resultado de cada id", response = DeliveryTransitionResponseDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Lote processado, verifique o status de cada id"),
+            @ApiResponse(code = 400, message = "Má solicitação para cancelar entregas"),
+            @ApiResponse(code = 401, message = "Ausência de autorização"),
+            @ApiResponse(code = 403, message = "Usuário não autorizado a realizar cancelamento de entregas"),
+            @ApiResponse(code = 500, message = "Sistema indisponível")
+    })
+    @PutMapping("/cancel")
+    public ResponseEntity<DeliveryTransitionResponseDto> cancelAll(@RequestBody @Valid DeliveryIdsRequestDto deliveryIdsRequestDto) {
+        return ResponseEntity.ok(deliveryCompletionService.cancelAll(deliveryIdsRequestDto.getDeliveryIds()));
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.neylandev.delivery.application.controller;
 
 import com.neylandev.delivery.application.request.OccurrenceRequestDto;
+import com.neylandev.delivery.application.response.OccurrencePageResponseDto;
 import com.neylandev.delivery.application.response.OccurrenceResponseDto;
 import com.neylandev.delivery.domain.service.OccurrenceService;
 import io.swagger.annotations.Api;
@@ -15,10 +16,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping("/deliveries/{deliveryId}/occurrences")
@@ -42,16 +43,19 @@ public class OccurrenceController {
         return new ResponseEntity<>(occurrenceService.registerOccurrence(deliveryId, occurrenceRequestDto.getDescription()), HttpStatus.CREATED);
     }
 
-    @ApiOperation(value = "Retorna todas ocorrência de uma entrega por id", response = OccurrenceResponseDto.class, responseContainer = "List")
+    @ApiOperation(value = "Retorna uma página das ocorrências de uma entrega por id", response = OccurrencePageResponseDto.class)
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Retornando lista de ocorrências de uma entrega por id"),
+            @ApiResponse(code = 200, message = "Retornando página de ocorrências de uma entrega por id"),
             @ApiResponse(code = 401, message = "Ausência de autorização"),
             @ApiResponse(code = 403, message = "Usuário não autorizado a realizar busca de ocorrências"),
+            @ApiResponse(code = 404, message = "Entrega não encontrada"),
             @ApiResponse(code = 500, message = "Sistema indisponível")
     })
     @GetMapping
-    public ResponseEntity<List<OccurrenceResponseDto>> listAll(@PathVariable Long deliveryId) {
-        return ResponseEntity.ok(occurrenceService.findAllOccurrencesOfDelivery(deliveryId));
+    public ResponseEntity<OccurrencePageResponseDto> listAll(@PathVariable Long deliveryId,
+                                                             @RequestParam(required = false) Integer page,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(occurrenceService.findAllOccurrencesOfDelivery(deliveryId, page, size));
     }
 
 }
@@ -0,0 +1,24 @@
+package com.neylandev.delivery.application.request;
+
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientDeliveryFilterRequestDto {
+
+    @ApiModelProperty(value = "Status da entrega", name = "deliveryStatus", dataType = "DeliveryStatus", example = "PENDING")
+    private DeliveryStatus deliveryStatus;
+    @ApiModelProperty(value = "Cursor da próxima página retornado na consulta anterior", name = "cursor", dataType = "String")
+    private String cursor;
+    @ApiModelProperty(value = "Quantidade de entregas por página", name = "size", dataType = "Integer", example = "20")
+    private Integer size;
+}
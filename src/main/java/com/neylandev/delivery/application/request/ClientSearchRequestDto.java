@@ -0,0 +1,27 @@
+package com.neylandev.delivery.application.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSearchRequestDto {
+
+    @ApiModelProperty(value = "Início do nome do cliente", name = "name", dataType = "String", example = "Antônio")
+    private String name;
+    @ApiModelProperty(value = "Início do email do cliente", name = "email", dataType = "String", example = "antonio@")
+    private String email;
+    @ApiModelProperty(value = "Início do telefone do cliente", name = "telephone", dataType = "String", example = "7398")
+    private String telephone;
+    @ApiModelProperty(value = "Cursor da próxima página retornado na consulta anterior", name = "cursor", dataType = "String")
+    private String cursor;
+    @ApiModelProperty(value = "Quantidade de clientes por página", name = "size", dataType = "Integer", example = "20")
+    private Integer size;
+}
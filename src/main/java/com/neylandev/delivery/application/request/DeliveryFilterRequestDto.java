@@ -0,0 +1,35 @@
+package com.neylandev.delivery.application.request;
+
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryFilterRequestDto {
+
+    @ApiModelProperty(value = "Status da entrega", name = "deliveryStatus", dataType = "DeliveryStatus", example = "PENDING")
+    private DeliveryStatus deliveryStatus;
+    @ApiModelProperty(value = "Id do cliente", name = "clientId", dataType = "Long", example = "1")
+    private Long clientId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @ApiModelProperty(value = "Data do pedido inicial (inclusiva)", name = "orderedDateFrom", dataType = "OffsetDateTime", example = "2022-07-28T00:00:00-03:00")
+    private OffsetDateTime orderedDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @ApiModelProperty(value = "Data do pedido final (exclusiva)", name = "orderedDateTo", dataType = "OffsetDateTime", example = "2022-07-29T00:00:00-03:00")
+    private OffsetDateTime orderedDateTo;
+    @ApiModelProperty(value = "Cursor da próxima página retornado na consulta anterior", name = "cursor", dataType = "String")
+    private String cursor;
+    @ApiModelProperty(value = "Quantidade de entregas por página", name = "size", dataType = "Integer", example = "20")
+    private Integer size;
+}
@@ -0,0 +1,27 @@
+package com.neylandev.delivery.application.request;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryIdsRequestDto {
+
+    @NotEmpty(message = "O campo deliveryIds não pode ser vazio")
+    @Size(max = Constants.MAX_BATCH_SIZE, message = "O campo deliveryIds deve conter no máximo " + Constants.MAX_BATCH_SIZE + " ids")
+    @ApiModelProperty(value = "Ids das entregas", name = "deliveryIds", dataType = "List", example = "[1, 2, 3]")
+    private List<@NotNull(message = "O campo deliveryIds não pode conter ids nulos") Long> deliveryIds;
+}
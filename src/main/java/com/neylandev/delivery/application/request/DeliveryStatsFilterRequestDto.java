@@ -0,0 +1,26 @@
+package com.neylandev.delivery.application.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryStatsFilterRequestDto {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @ApiModelProperty(value = "Dia inicial das estatísticas diárias (inclusivo)", name = "from", dataType = "LocalDate", example = "2022-07-01")
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @ApiModelProperty(value = "Dia final das estatísticas diárias (inclusivo)", name = "to", dataType = "LocalDate", example = "2022-07-31")
+    private LocalDate to;
+}
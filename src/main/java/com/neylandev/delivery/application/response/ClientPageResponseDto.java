@@ -0,0 +1,25 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientPageResponseDto {
+
+    @ApiModelProperty(value = "Clientes da página", name = "content")
+    private List<ClientResponseDto> content;
+    @ApiModelProperty(value = "Cursor da próxima página, ausente na última página", name = "nextCursor", dataType = "String")
+    private String nextCursor;
+}
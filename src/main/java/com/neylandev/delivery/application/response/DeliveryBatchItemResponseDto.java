@@ -0,0 +1,29 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryBatchItemResponseDto {
+
+    @ApiModelProperty(value = "Posição da entrega no lote enviado", name = "index", dataType = "Integer", example = "0")
+    private Integer index;
+    @ApiModelProperty(value = "Status http do item", name = "status", dataType = "Integer", example = "201")
+    private Integer status;
+    @ApiModelProperty(value = "Entrega cadastrada, ausente quando o item falhou", name = "delivery")
+    private DeliveryResponseDto delivery;
+    @ApiModelProperty(value = "Mensagem de erro do item", name = "message", dataType = "String")
+    private String message;
+    @ApiModelProperty(value = "Descrição do erro do item", name = "description", dataType = "String")
+    private String description;
+}
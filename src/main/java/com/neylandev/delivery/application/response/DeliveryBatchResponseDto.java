@@ -0,0 +1,27 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryBatchResponseDto {
+
+    @ApiModelProperty(value = "Quantidade de entregas cadastradas", name = "created", dataType = "Integer", example = "10")
+    private Integer created;
+    @ApiModelProperty(value = "Quantidade de entregas recusadas", name = "failed", dataType = "Integer", example = "0")
+    private Integer failed;
+    @ApiModelProperty(value = "Resultado de cada entrega, na ordem em que foram enviadas", name = "results")
+    private List<DeliveryBatchItemResponseDto> results;
+}
@@ -0,0 +1,28 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryDailyStatsResponseDto {
+
+    @ApiModelProperty(value = "Dia do pedido", name = "orderedDay", dataType = "LocalDate", example = "2022-07-28")
+    private LocalDate orderedDay;
+    @ApiModelProperty(value = "Quantidade de entregas pedidas no dia", name = "deliveries", dataType = "Long", example = "10")
+    private Long deliveries;
+    @ApiModelProperty(value = "Soma das taxas das entregas pedidas no dia", name = "taxTotal", dataType = "BigDecimal", example = "150.00")
+    private BigDecimal taxTotal;
+}
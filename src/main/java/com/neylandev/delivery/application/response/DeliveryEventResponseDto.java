@@ -0,0 +1,35 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.neylandev.delivery.domain.enums.DeliveryEventType;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryEventResponseDto {
+
+    @ApiModelProperty(value = "Tipo do evento", name = "type", dataType = "DeliveryEventType", example = "COMPLETED")
+    private DeliveryEventType type;
+    @ApiModelProperty(value = "Id da entrega", name = "deliveryId", dataType = "Long", example = "1")
+    private Long deliveryId;
+    @ApiModelProperty(value = "Id do cliente", name = "clientId", dataType = "Long", example = "1")
+    private Long clientId;
+    @ApiModelProperty(value = "Status da entrega", name = "deliveryStatus", dataType = "DeliveryStatus", example = "FINALIZED")
+    private DeliveryStatus deliveryStatus;
+    @ApiModelProperty(value = "Descrição da ocorrência, presente apenas em OCCURRENCE_ADDED", name = "description", dataType = "String", example = "Destinatário não estava em casa")
+    private String description;
+    @ApiModelProperty(value = "Data do evento", name = "occurredDate", dataType = "OffsetDateTime", example = "2022-07-28T11:00:03.831798-03:00")
+    private OffsetDateTime occurredDate;
+}
@@ -0,0 +1,23 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryOccurrenceCountResponseDto {
+
+    @ApiModelProperty(value = "Id da entrega", name = "deliveryId", dataType = "Long", example = "1")
+    private Long deliveryId;
+    @ApiModelProperty(value = "Quantidade de ocorrências da entrega", name = "occurrences", dataType = "Long", example = "3")
+    private Long occurrences;
+}
@@ -0,0 +1,31 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryStatsResponseDto {
+
+    @ApiModelProperty(value = "Quantidade de entregas por status", name = "deliveriesByStatus")
+    private Map<DeliveryStatus, Long> deliveriesByStatus;
+    @ApiModelProperty(value = "Quantidade total de ocorrências registradas", name = "occurrences", dataType = "Long", example = "42")
+    private Long occurrences;
+    @ApiModelProperty(value = "Entregas e soma das taxas por dia do pedido, no período consultado", name = "dailyStats")
+    private List<DeliveryDailyStatsResponseDto> dailyStats;
+    @ApiModelProperty(value = "Entregas com mais ocorrências registradas", name = "mostOccurrences")
+    private List<DeliveryOccurrenceCountResponseDto> mostOccurrences;
+}
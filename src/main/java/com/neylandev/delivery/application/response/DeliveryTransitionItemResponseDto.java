@@ -0,0 +1,27 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryTransitionItemResponseDto {
+
+    @ApiModelProperty(value = "Id da entrega", name = "deliveryId", dataType = "Long", example = "1")
+    private Long deliveryId;
+    @ApiModelProperty(value = "Status http do item", name = "status", dataType = "Integer", example = "204")
+    private Integer status;
+    @ApiModelProperty(value = "Mensagem de erro do item", name = "message", dataType = "String")
+    private String message;
+    @ApiModelProperty(value = "Descrição do erro do item", name = "description", dataType = "String")
+    private String description;
+}
@@ -0,0 +1,23 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorResponseDto {
+
+    @ApiModelProperty(value = "Mensagem do erro", name = "message", dataType = "String")
+    private String message;
+    @ApiModelProperty(value = "Campo e motivo do erro", name = "description", dataType = "String")
+    private String description;
+}
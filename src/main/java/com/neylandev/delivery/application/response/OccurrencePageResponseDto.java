@@ -0,0 +1,29 @@
+package com.neylandev.delivery.application.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccurrencePageResponseDto {
+
+    @ApiModelProperty(value = "Ocorrências da página, da mais antiga para a mais recente", name = "content")
+    private List<OccurrenceResponseDto> content;
+    @ApiModelProperty(value = "Número da página", name = "page", dataType = "Integer", example = "0")
+    private Integer page;
+    @ApiModelProperty(value = "Quantidade de ocorrências por página", name = "size", dataType = "Integer", example = "20")
+    private Integer size;
+    @ApiModelProperty(value = "Indica se existe uma próxima página", name = "hasNext", dataType = "Boolean", example = "false")
+    private Boolean hasNext;
+}
@@ -2,22 +2,79 @@ package com.neylandev.delivery.application.route;
 
 import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
 import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.cache.CacheInvalidationMessage;
+import com.neylandev.delivery.infrastructure.cache.CacheInvalidationReceiver;
+import com.neylandev.delivery.infrastructure.metrics.CamelRouteMetricsPolicy;
+import lombok.RequiredArgsConstructor;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.model.dataformat.JsonLibrary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class RabbitMQRouteBuilder extends RouteBuilder {
 
+    private final CamelRouteMetricsPolicy camelRouteMetricsPolicy;
+    private final CacheInvalidationReceiver cacheInvalidationReceiver;
+
+    @Value("${delivery.email.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${cache.invalidation.enabled:false}")
+    private boolean cacheInvalidationEnabled;
+
     @Override
     public void configure() {
 
+        if (cacheInvalidationEnabled) {
+            configureCacheInvalidation();
+        }
+
+        if (batchEnabled) {
+            configureBatch();
+        }
+
         from(Constants.DIRECT_SEND_EMAIL)
                 .routeId(Constants.DIRECT_SEND_EMAIL)
+                .routePolicy(camelRouteMetricsPolicy)
                 .marshal()
                 .json(JsonLibrary.Jackson, DeliveryEmailDto.class)
                 .to("{{to.delivery.email}}")
                 .log("ENVIADO PARA FILA DE DELIVERY EMAIL - RABBITMQ");
 
     }
+
+    // O lote é montado pelo relay da outbox a partir das linhas já reivindicadas; a rota só publica a lista,
+    // e as linhas só são removidas depois que esta publicação é confirmada
+    private void configureBatch() {
+
+        from(Constants.DIRECT_SEND_EMAIL_BATCH)
+                .routeId(Constants.DIRECT_SEND_EMAIL_BATCH)
+                .routePolicy(camelRouteMetricsPolicy)
+                .marshal()
+                .json(JsonLibrary.Jackson)
+                .to("{{to.delivery.email}}")
+                .log("ENVIADO LOTE PARA FILA DE DELIVERY EMAIL - RABBITMQ");
+
+    }
+
+    // cada nó publica as chaves alteradas no exchange fanout e consome de uma fila exclusiva, removendo do seu cache local
+    private void configureCacheInvalidation() {
+
+        from(Constants.DIRECT_CACHE_INVALIDATION)
+                .routeId(Constants.DIRECT_CACHE_INVALIDATION)
+                .routePolicy(camelRouteMetricsPolicy)
+                .marshal()
+                .json(JsonLibrary.Jackson, CacheInvalidationMessage.class)
+                .to("{{to.cache.invalidation}}");
+
+        from("{{from.cache.invalidation}}")
+                .routeId(Constants.CACHE_INVALIDATION_ROUTE)
+                .routePolicy(camelRouteMetricsPolicy)
+                .unmarshal()
+                .json(JsonLibrary.Jackson, CacheInvalidationMessage.class)
+                .bean(cacheInvalidationReceiver, "receive");
+
+    }
 }
@@ -0,0 +1,5 @@
+package com.neylandev.delivery.domain.enums;
+
+public enum DeliveryEventType {
+    CREATED, COMPLETED, CANCELLED, OCCURRENCE_ADDED
+}
@@ -0,0 +1,15 @@
+package com.neylandev.delivery.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DeliveryExportFormat {
+
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,26 @@
+package com.neylandev.delivery.domain.job;
+
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Os ids de Delivery vêm do gerador de tabela declarado no orm.xml. Na subida, antes de o servidor aceitar requisições,
+// a linha do gerador é criada ou avançada acima do maior id, inclusive dos gerados pelo AUTO_INCREMENT de antes
+@Slf4j
+@Component
+public class DeliveryIdSequenceInitializer {
+
+    public DeliveryIdSequenceInitializer(DeliveryRepository deliveryRepository, TransactionTemplate transactionTemplate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> deliveryRepository.insertIdSequence());
+        } catch (DataIntegrityViolationException e) {
+            log.info("Gerador de ids de entregas criado por outra instância: {}", e.getMostSpecificCause().getMessage());
+        }
+        var raised = transactionTemplate.execute(status -> deliveryRepository.raiseIdSequenceAboveMaxId());
+        if (raised != null && raised > 0) {
+            log.info("Gerador de ids de entregas avançado acima do maior id existente");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.neylandev.delivery.domain.job;
+
+import com.neylandev.delivery.domain.service.DeliveryStatsService;
+import com.neylandev.delivery.domain.service.JobLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryStatsJob {
+
+    static final String LOCK_NAME = "delivery-stats";
+
+    private final DeliveryStatsService deliveryStatsService;
+    private final JobLockService jobLockService;
+
+    @Value("${delivery.stats.lock-at-most-for:PT1H}")
+    private Duration lockAtMostFor;
+
+    // roda uma vez de forma síncrona na subida, antes de a aplicação ser considerada pronta
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${delivery.stats.prepare-delay:3600000}", initialDelayString = "${delivery.stats.prepare-delay:3600000}")
+    public void prepare() {
+        runLocked(deliveryStatsService::prepare);
+    }
+
+    @Scheduled(cron = "${delivery.stats.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        runLocked(deliveryStatsService::rebuild);
+    }
+
+    // só uma instância prepara ou recalcula por vez; as outras pulam a execução
+    private void runLocked(Runnable task) {
+        try {
+            if (!jobLockService.tryAcquire(LOCK_NAME, lockAtMostFor)) {
+                log.info("Estatísticas de entregas em processamento por outra instância");
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("Lock das estatísticas de entregas criado por outra instância: {}", e.getMostSpecificCause().getMessage());
+            return;
+        }
+        try {
+            task.run();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Linhas das estatísticas de entregas já criadas por outra instância: {}", e.getMostSpecificCause().getMessage());
+        } finally {
+            jobLockService.release(LOCK_NAME);
+        }
+    }
+}
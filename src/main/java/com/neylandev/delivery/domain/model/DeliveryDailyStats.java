@@ -0,0 +1,52 @@
+package com.neylandev.delivery.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "delivery_daily_stats")
+public class DeliveryDailyStats implements Persistable<LocalDate> {
+
+    @Id
+    private LocalDate orderedDay;
+    private long deliveries;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal taxTotal;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public LocalDate getId() {
+        return orderedDay;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        newRecord = false;
+    }
+}
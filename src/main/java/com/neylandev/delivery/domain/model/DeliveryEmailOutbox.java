@@ -0,0 +1,44 @@
+package com.neylandev.delivery.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "delivery_email_outbox",
+        indexes = @Index(name = "idx_delivery_email_outbox_next_attempt_date", columnList = "nextAttemptDate, id"))
+public class DeliveryEmailOutbox {
+
+    // IDENTITY obrigaria o Hibernate a inserir linha a linha para ler o id; a sequência com pool reserva 50 ids
+    // por ida ao banco (o tamanho do lote JDBC) e deixa o enqueueAll sair em inserts agrupados.
+    // No MySQL, sem sequências, o Hibernate emula com a tabela delivery_email_outbox_seq
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_email_outbox_seq")
+    @SequenceGenerator(name = "delivery_email_outbox_seq", sequenceName = "delivery_email_outbox_seq", allocationSize = 50)
+    private Long id;
+    private String clientEmail;
+    private String subject;
+    // o corpo é HTML renderizado e passa facilmente dos 255 caracteres do varchar padrão
+    @Lob
+    private String body;
+    private OffsetDateTime createdDate;
+    private OffsetDateTime nextAttemptDate;
+    private int attempts;
+}
@@ -0,0 +1,49 @@
+package com.neylandev.delivery.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PostLoad;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "delivery_occurrence_counter",
+        indexes = @Index(name = "idx_delivery_occurrence_counter_occurrences", columnList = "occurrences, deliveryId"))
+public class DeliveryOccurrenceCounter implements Persistable<Long> {
+
+    @Id
+    private Long deliveryId;
+    private long occurrences;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public Long getId() {
+        return deliveryId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        newRecord = false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.neylandev.delivery.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.PostLoad;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_record_expires_date", columnList = "expiresDate"))
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 300)
+    private String idempotencyKey;
+    @Column(length = 32)
+    private String fingerprint;
+    private int status;
+    @Lob
+    private String body;
+    private OffsetDateTime createdDate;
+    private OffsetDateTime expiresDate;
+
+    // a chave é atribuída pela aplicação, então o save precisa fazer persist (e falhar em chave duplicada) em vez de merge
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    void markNotNew() {
+        newRecord = false;
+    }
+}
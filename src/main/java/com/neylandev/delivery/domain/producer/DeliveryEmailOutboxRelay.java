@@ -0,0 +1,106 @@
+package com.neylandev.delivery.domain.producer;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import com.neylandev.delivery.domain.service.DeliveryEmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryEmailOutboxRelay {
+
+    private final DeliveryEmailOutboxService deliveryEmailOutboxService;
+    private final DeliverySendEmailProducer deliverySendEmailProducer;
+
+    @Value("${delivery.email.outbox.batch-size:100}")
+    private int batchSize;
+
+    // menor que o lease da outbox: um envio que não termina (tarefa descartada pelo executor, broker travado)
+    // volta para a fila como falha em vez de prender a única thread do agendador
+    @Value("${delivery.email.outbox.publish-timeout:PT10S}")
+    private Duration publishTimeout;
+
+    @Value("${delivery.email.batch.enabled:false}")
+    private boolean publishBatchEnabled;
+
+    @Value("${delivery.email.batch.size:100}")
+    private int publishBatchSize;
+
+    @Scheduled(fixedDelayString = "${delivery.email.outbox.relay-delay:1000}")
+    public void relay() {
+        List<DeliveryEmailOutbox> batch;
+        do {
+            batch = deliveryEmailOutboxService.claimBatch(batchSize);
+        } while (publish(batch) && batch.size() == batchSize);
+    }
+
+    // Cada grupo vira uma mensagem (um email, ou uma lista quando o lote está habilitado) e só sai da outbox
+    // depois que o envio confirmado ao broker retorna; um grupo que falha volta inteiro para a fila
+    private boolean publish(List<DeliveryEmailOutbox> batch) {
+        Map<List<DeliveryEmailOutbox>, CompletableFuture<Void>> published = new LinkedHashMap<>();
+        groups(batch).forEach(group -> published.put(group,
+                send(group).orTimeout(publishTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        List<Long> sent = new ArrayList<>();
+        List<DeliveryEmailOutbox> failed = new ArrayList<>();
+        published.forEach((group, future) -> {
+            try {
+                future.join();
+                group.forEach(deliveryEmailOutbox -> sent.add(deliveryEmailOutbox.getId()));
+            } catch (CompletionException e) {
+                log.warn("Falha ao publicar {} email(s) da outbox a partir do id={}: {}", group.size(), group.get(0).getId(),
+                        e.getCause().toString());
+                failed.addAll(group);
+            }
+        });
+
+        deliveryEmailOutboxService.markSent(sent);
+        if (!failed.isEmpty()) {
+            deliveryEmailOutboxService.reschedule(failed);
+        }
+        return failed.isEmpty();
+    }
+
+    private List<List<DeliveryEmailOutbox>> groups(List<DeliveryEmailOutbox> batch) {
+        var groupSize = publishBatchEnabled ? publishBatchSize : 1;
+        List<List<DeliveryEmailOutbox>> groups = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += groupSize) {
+            groups.add(batch.subList(from, Math.min(from + groupSize, batch.size())));
+        }
+        return groups;
+    }
+
+    private CompletableFuture<Void> send(List<DeliveryEmailOutbox> group) {
+        try {
+            if (!publishBatchEnabled) {
+                return deliverySendEmailProducer.send(deliveryEmailDto(group.get(0)));
+            }
+            return deliverySendEmailProducer.sendBatch(group.stream().map(this::deliveryEmailDto).collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private DeliveryEmailDto deliveryEmailDto(DeliveryEmailOutbox deliveryEmailOutbox) {
+        return DeliveryEmailDto.builder()
+                .clientEmail(deliveryEmailOutbox.getClientEmail())
+                .subject(deliveryEmailOutbox.getSubject())
+                .body(deliveryEmailOutbox.getBody())
+                .build();
+    }
+}
@@ -8,6 +8,9 @@ import org.apache.camel.ProducerTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 public class DeliverySendEmailProducer {
@@ -15,8 +18,16 @@ public class DeliverySendEmailProducer {
     @Produce(Constants.DIRECT_SEND_EMAIL)
     private final ProducerTemplate producerTemplate;
 
-    @Async
-    public void send(DeliveryEmailDto deliveryEmailDto){
+    @Async(Constants.EMAIL_TASK_EXECUTOR)
+    public CompletableFuture<Void> send(DeliveryEmailDto deliveryEmailDto){
         producerTemplate.sendBody(deliveryEmailDto);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // o sendBody só retorna depois da confirmação do broker, então o futuro completo significa lote publicado
+    @Async(Constants.EMAIL_TASK_EXECUTOR)
+    public CompletableFuture<Void> sendBatch(List<DeliveryEmailDto> deliveryEmailDtos) {
+        producerTemplate.sendBody(Constants.DIRECT_SEND_EMAIL_BATCH, deliveryEmailDtos);
+        return CompletableFuture.completedFuture(null);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,15 @@
 package com.neylandev.delivery.domain.repository;
 
+import com.neylandev.delivery.application.response.ClientResponseDto;
 import com.neylandev.delivery.domain.model.Client;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,8 +18,49 @@ import java.util.Optional;
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
-    List<Client> findByName(String name);
+    String SELECT_CLIENT_RESPONSE = "select new com.neylandev.delivery.application.response.ClientResponseDto(" +
+            "c.id, c.name, c.email, c.telephone) from Client c ";
+
+    // o cache guarda um DTO montado pela projeção, nunca a entidade gerenciada, para que nenhuma alteração
+    // feita em uma sessão vaze para as outras requisições
+    @Cacheable(cacheNames = Constants.CLIENT_CACHE, key = "#p0", unless = "#result == null")
+    @Query(SELECT_CLIENT_RESPONSE + "where c.id = :id")
+    Optional<ClientResponseDto> findResponseById(@Param("id") Long id);
+
+    @Override
+    @CacheEvict(cacheNames = Constants.CLIENT_CACHE, allEntries = true)
+    void deleteAll();
+
+    @Query(SELECT_CLIENT_RESPONSE)
+    List<ClientResponseDto> findAllResponses();
 
-    Optional<Client> findByEmail(String email);
-    Optional<Client> findByTelephone(String telephone);
+    // As buscas por prefixo percorrem os índices declarados no orm.xml; o cursor continua do último (campo, id)
+    @Query(SELECT_CLIENT_RESPONSE +
+            "where c.name like :prefix escape '!' " +
+            "and (:cursorValue is null or c.name > :cursorValue or (c.name = :cursorValue and c.id > :cursorId)) " +
+            "order by c.name, c.id")
+    Slice<ClientResponseDto> searchByName(@Param("prefix") String prefix,
+                                          @Param("cursorValue") String cursorValue,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    @Query(SELECT_CLIENT_RESPONSE +
+            "where c.email like :prefix escape '!' " +
+            "and (:cursorValue is null or c.email > :cursorValue or (c.email = :cursorValue and c.id > :cursorId)) " +
+            "order by c.email, c.id")
+    Slice<ClientResponseDto> searchByEmail(@Param("prefix") String prefix,
+                                           @Param("cursorValue") String cursorValue,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    @Query(SELECT_CLIENT_RESPONSE +
+            "where c.telephone like :prefix escape '!' " +
+            "and (:cursorValue is null or c.telephone > :cursorValue or (c.telephone = :cursorValue and c.id > :cursorId)) " +
+            "order by c.telephone, c.id")
+    Slice<ClientResponseDto> searchByTelephone(@Param("prefix") String prefix,
+                                               @Param("cursorValue") String cursorValue,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    List<Client> findByName(String name);
 }
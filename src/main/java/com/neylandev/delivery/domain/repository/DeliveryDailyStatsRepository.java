@@ -0,0 +1,37 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.application.response.DeliveryDailyStatsResponseDto;
+import com.neylandev.delivery.domain.model.DeliveryDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface DeliveryDailyStatsRepository extends JpaRepository<DeliveryDailyStats, LocalDate> {
+
+    @Modifying
+    @Query("update DeliveryDailyStats s set s.deliveries = s.deliveries + :deliveries, s.taxTotal = s.taxTotal + :tax " +
+            "where s.orderedDay = :orderedDay")
+    int increment(@Param("orderedDay") LocalDate orderedDay, @Param("deliveries") long deliveries, @Param("tax") BigDecimal tax);
+
+    @Modifying
+    @Query("update DeliveryDailyStats s set " +
+            "s.deliveries = (select count(d) from Delivery d where d.orderedDate >= :from and d.orderedDate < :to), " +
+            "s.taxTotal = (select coalesce(sum(d.tax), 0) from Delivery d where d.orderedDate >= :from and d.orderedDate < :to) " +
+            "where s.orderedDay = :orderedDay")
+    int recount(@Param("orderedDay") LocalDate orderedDay, @Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+    @Query("select s.orderedDay from DeliveryDailyStats s")
+    List<LocalDate> findAllOrderedDays();
+
+    @Query("select new com.neylandev.delivery.application.response.DeliveryDailyStatsResponseDto(s.orderedDay, s.deliveries, s.taxTotal) " +
+            "from DeliveryDailyStats s where s.orderedDay between :from and :to order by s.orderedDay")
+    List<DeliveryDailyStatsResponseDto> findAllBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,31 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DeliveryEmailOutboxRepository extends JpaRepository<DeliveryEmailOutbox, Long> {
+
+    // lock.timeout -2 é o SKIP LOCKED do Hibernate: outros nós pulam as linhas já reivindicadas em vez de esperar por elas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from DeliveryEmailOutbox o where o.nextAttemptDate <= :now order by o.nextAttemptDate, o.id")
+    List<DeliveryEmailOutbox> findDue(@Param("now") OffsetDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from DeliveryEmailOutbox o where o.id in :ids")
+    void deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,13 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+public interface DeliveryExportRepository {
+
+    Stream<DeliveryResponseDto> streamAll(DeliveryStatus deliveryStatus, Long clientId,
+                                          OffsetDateTime orderedDateFrom, OffsetDateTime orderedDateTo);
+}
@@ -0,0 +1,43 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public class DeliveryExportRepositoryImpl implements DeliveryExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // No MySQL o Connector/J só lê linha a linha quando o fetch size é Integer.MIN_VALUE; assim o streaming vale
+    // apenas para esta consulta, sem useCursorFetch na URL. O H2 dos testes recusa valores negativos, daí o padrão
+    @Value("${delivery.export.fetch-size:" + Constants.EXPORT_FETCH_SIZE + "}")
+    private int fetchSize;
+
+    @Override
+    public Stream<DeliveryResponseDto> streamAll(DeliveryStatus deliveryStatus, Long clientId,
+                                                 OffsetDateTime orderedDateFrom, OffsetDateTime orderedDateTo) {
+        return entityManager.createQuery(DeliveryRepository.SELECT_DELIVERY_RESPONSE +
+                        "where (:deliveryStatus is null or d.deliveryStatus = :deliveryStatus) " +
+                        "and (:clientId is null or c.id = :clientId) " +
+                        "and (:orderedDateFrom is null or d.orderedDate >= :orderedDateFrom) " +
+                        "and (:orderedDateTo is null or d.orderedDate < :orderedDateTo) " +
+                        "order by d.orderedDate desc, d.id desc", DeliveryResponseDto.class)
+                .setParameter("deliveryStatus", deliveryStatus)
+                .setParameter("clientId", clientId)
+                .setParameter("orderedDateFrom", orderedDateFrom)
+                .setParameter("orderedDateTo", orderedDateTo)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,42 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.application.response.DeliveryOccurrenceCountResponseDto;
+import com.neylandev.delivery.domain.model.DeliveryOccurrenceCounter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeliveryOccurrenceCounterRepository extends JpaRepository<DeliveryOccurrenceCounter, Long> {
+
+    @Modifying
+    @Query("update DeliveryOccurrenceCounter c set c.occurrences = c.occurrences + 1 where c.deliveryId = :deliveryId")
+    int increment(@Param("deliveryId") Long deliveryId);
+
+    @Query("select new com.neylandev.delivery.application.response.DeliveryOccurrenceCountResponseDto(c.deliveryId, c.occurrences) " +
+            "from DeliveryOccurrenceCounter c where c.occurrences > 0 order by c.occurrences desc, c.deliveryId desc")
+    List<DeliveryOccurrenceCountResponseDto> findMostOccurrences(Pageable pageable);
+
+    // os ids são recontados em faixas para que cada UPDATE, e os locks do seu subselect, dure pouco
+    @Modifying
+    @Query("update DeliveryOccurrenceCounter c set c.occurrences = " +
+            "(select count(o) from Occurrence o where o.delivery.id = c.deliveryId) " +
+            "where c.deliveryId between :fromDeliveryId and :toDeliveryId")
+    int recountBetween(@Param("fromDeliveryId") long fromDeliveryId, @Param("toDeliveryId") long toDeliveryId);
+
+    @Query("select max(c.deliveryId) from DeliveryOccurrenceCounter c")
+    Long findMaxDeliveryId();
+
+    // entregas criadas antes das estatísticas ganham o contador aqui, já com a contagem atual
+    @Modifying
+    @Query("insert into DeliveryOccurrenceCounter (deliveryId, occurrences) " +
+            "select d.id, count(o) from Delivery d left join d.occurrences o " +
+            "where not exists (select c.deliveryId from DeliveryOccurrenceCounter c where c.deliveryId = d.id) " +
+            "group by d.id")
+    int insertMissing();
+}
@@ -1,9 +1,103 @@
 package com.neylandev.delivery.domain.repository;
 
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
 import com.neylandev.delivery.domain.model.Delivery;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+public interface DeliveryRepository extends JpaRepository<Delivery, Long>, DeliveryExportRepository {
+
+    String SELECT_DELIVERY_RESPONSE = "select new com.neylandev.delivery.application.response.DeliveryResponseDto(" +
+            "d.id, c.id, c.name, c.email, c.telephone, d.recipient.name, d.recipient.street, d.recipient.number, " +
+            "d.recipient.complement, d.recipient.neighborhood, d.tax, d.deliveryStatus, d.orderedDate, d.endDate) " +
+            "from Delivery d join d.client c ";
+
+    @Query(SELECT_DELIVERY_RESPONSE + "where d.id = :id")
+    Optional<DeliveryResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_DELIVERY_RESPONSE +
+            "where (:deliveryStatus is null or d.deliveryStatus = :deliveryStatus) " +
+            "and (:clientId is null or c.id = :clientId) " +
+            "and (:orderedDateFrom is null or d.orderedDate >= :orderedDateFrom) " +
+            "and (:orderedDateTo is null or d.orderedDate < :orderedDateTo) " +
+            "and (:cursorOrderedDate is null or d.orderedDate < :cursorOrderedDate " +
+            "or (d.orderedDate = :cursorOrderedDate and d.id < :cursorId)) " +
+            "order by d.orderedDate desc, d.id desc")
+    Slice<DeliveryResponseDto> findPage(@Param("deliveryStatus") DeliveryStatus deliveryStatus,
+                                        @Param("clientId") Long clientId,
+                                        @Param("orderedDateFrom") OffsetDateTime orderedDateFrom,
+                                        @Param("orderedDateTo") OffsetDateTime orderedDateTo,
+                                        @Param("cursorOrderedDate") OffsetDateTime cursorOrderedDate,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    // d.client.id filtra pela coluna client_id da própria entrega, usando os índices que começam por client_id
+    @Query(SELECT_DELIVERY_RESPONSE +
+            "where d.client.id = :clientId " +
+            "and (:deliveryStatus is null or d.deliveryStatus = :deliveryStatus) " +
+            "and (:cursorOrderedDate is null or d.orderedDate < :cursorOrderedDate " +
+            "or (d.orderedDate = :cursorOrderedDate and d.id < :cursorId)) " +
+            "order by d.orderedDate desc, d.id desc")
+    Slice<DeliveryResponseDto> findPageByClientId(@Param("clientId") Long clientId,
+                                                  @Param("deliveryStatus") DeliveryStatus deliveryStatus,
+                                                  @Param("cursorOrderedDate") OffsetDateTime cursorOrderedDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    @Query("select d from Delivery d join fetch d.client where d.id = :id")
+    Optional<Delivery> findWithClientById(@Param("id") Long id);
+
+    // select ... for update: a transição em lote só decide quem está pendente depois de segurar as linhas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from Delivery d join fetch d.client where d.id in :ids")
+    List<Delivery> findAllWithClientByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Delivery d set d.deliveryStatus = :newStatus, d.endDate = :endDate " +
+            "where d.id = :id and d.deliveryStatus = :expectedStatus")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatus") DeliveryStatus expectedStatus,
+                         @Param("newStatus") DeliveryStatus newStatus,
+                         @Param("endDate") OffsetDateTime endDate);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Delivery d set d.deliveryStatus = :newStatus, d.endDate = :endDate " +
+            "where d.id in :ids and d.deliveryStatus = :expectedStatus")
+    int transitionStatuses(@Param("ids") Collection<Long> ids,
+                           @Param("expectedStatus") DeliveryStatus expectedStatus,
+                           @Param("newStatus") DeliveryStatus newStatus,
+                           @Param("endDate") OffsetDateTime endDate);
+
+    // com o otimizador pooled o Hibernate entrega ids de (next_val - allocation-size, next_val], então o primeiro bloco
+    // só fica acima dos ids existentes com next_val >= max(id) + allocation-size
+    @Modifying
+    @Query(value = "insert into delivery_id_seq (sequence_name, next_val) " +
+            "select '" + Constants.DELIVERY_ID_SEQUENCE + "', coalesce(max(d.id), 0) + " + Constants.DELIVERY_ID_ALLOCATION_SIZE + " from delivery d " +
+            "where not exists (select 1 from delivery_id_seq s where s.sequence_name = '" + Constants.DELIVERY_ID_SEQUENCE + "')",
+            nativeQuery = true)
+    int insertIdSequence();
+
+    // só avança: um bloco já reservado por outra instância continua abaixo do novo next_val
+    @Modifying
+    @Query(value = "update delivery_id_seq " +
+            "set next_val = (select coalesce(max(d.id), 0) + " + Constants.DELIVERY_ID_ALLOCATION_SIZE + " from delivery d) " +
+            "where sequence_name = '" + Constants.DELIVERY_ID_SEQUENCE + "' " +
+            "and next_val < (select coalesce(max(d.id), 0) + " + Constants.DELIVERY_ID_ALLOCATION_SIZE + " from delivery d)",
+            nativeQuery = true)
+    int raiseIdSequenceAboveMaxId();
 }
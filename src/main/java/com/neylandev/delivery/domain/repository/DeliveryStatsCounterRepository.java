@@ -0,0 +1,27 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.model.DeliveryStatsCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryStatsCounterRepository extends JpaRepository<DeliveryStatsCounter, String> {
+
+    @Modifying
+    @Query("update DeliveryStatsCounter c set c.total = c.total + :delta where c.name = :name")
+    int increment(@Param("name") String name, @Param("delta") long delta);
+
+    // contagem e escrita no mesmo UPDATE: um incremento concorrente espera o lock da linha e é aplicado depois
+    @Modifying
+    @Query("update DeliveryStatsCounter c set c.total = " +
+            "(select count(d) from Delivery d where d.deliveryStatus = :deliveryStatus) where c.name = :name")
+    int recountDeliveries(@Param("name") String name, @Param("deliveryStatus") DeliveryStatus deliveryStatus);
+
+    @Modifying
+    @Query("update DeliveryStatsCounter c set c.total = (select count(o) from Occurrence o) where c.name = :name")
+    int recountOccurrences(@Param("name") String name);
+}
@@ -0,0 +1,22 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.domain.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresDate <= :now")
+    int deleteExpired(@Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :idempotencyKey and r.expiresDate <= :now")
+    int deleteExpired(@Param("idempotencyKey") String idempotencyKey, @Param("now") OffsetDateTime now);
+}
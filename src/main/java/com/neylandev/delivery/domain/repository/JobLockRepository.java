@@ -0,0 +1,27 @@
+package com.neylandev.delivery.domain.repository;
+
+import com.neylandev.delivery.domain.model.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // só uma instância consegue mudar a linha enquanto o lock anterior não expirou
+    @Modifying
+    @Query("update JobLock l set l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy " +
+            "where l.name = :name and l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("now") OffsetDateTime now,
+                @Param("lockedUntil") OffsetDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+
+    @Modifying
+    @Query("update JobLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :lockedBy")
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy, @Param("now") OffsetDateTime now);
+}
@@ -1,9 +1,18 @@
 package com.neylandev.delivery.domain.repository;
 
+import com.neylandev.delivery.application.response.OccurrenceResponseDto;
 import com.neylandev.delivery.domain.model.Occurrence;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OccurrenceRepository extends JpaRepository<Occurrence, Long> {
+
+    @Query("select new com.neylandev.delivery.application.response.OccurrenceResponseDto(o.id, o.description, o.delivery.id, o.registerDate) " +
+            "from Occurrence o where o.delivery.id = :deliveryId order by o.registerDate, o.id")
+    Slice<OccurrenceResponseDto> findByDeliveryId(@Param("deliveryId") Long deliveryId, Pageable pageable);
 }
@@ -1,15 +1,32 @@
 package com.neylandev.delivery.domain.service;
 
 import com.neylandev.delivery.application.request.ClientRequestDto;
+import com.neylandev.delivery.application.request.ClientSearchRequestDto;
+import com.neylandev.delivery.application.response.ClientPageResponseDto;
 import com.neylandev.delivery.application.response.ClientResponseDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.model.Client;
 import com.neylandev.delivery.domain.repository.ClientRepository;
+import com.neylandev.delivery.domain.utils.ClientCursor;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.domain.utils.ETags;
+import com.neylandev.delivery.domain.utils.PageSizes;
 import com.neylandev.delivery.domain.utils.ParseObjects;
+import com.neylandev.delivery.infrastructure.exception.DuplicateClientException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,32 +34,70 @@ public class ClientService {
 
     private final ClientRepository clientRepository;
 
+    @Transactional(readOnly = true)
     public List<ClientResponseDto> findAll() {
-        return ParseObjects.listClientToListClientResponseDto(clientRepository.findAll());
+        return clientRepository.findAllResponses();
     }
 
+    // sem transação: a resposta vem do cache do repositório, e só a consulta de um cache miss abre a sua
     public ClientResponseDto findById(Long clientId) {
-        return clientRepository.findById(clientId).map(ParseObjects::clientToClientResponseDto)
+        return clientRepository.findResponseById(clientId)
                 .orElseThrow(() -> DataForBusinessException.CLIENT_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(clientId)));
     }
 
+    public String findETag(Long clientId) {
+        return clientRepository.findResponseById(clientId).map(client -> ETags.of(client.getName(), client.getEmail(), client.getTelephone()))
+                .orElseThrow(() -> DataForBusinessException.CLIENT_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(clientId)));
+    }
+
+    @Transactional(readOnly = true)
+    public ClientPageResponseDto search(ClientSearchRequestDto search) {
+        if (Stream.of(search.getName(), search.getEmail(), search.getTelephone()).filter(Objects::nonNull).count() != 1) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[name:Informe somente um entre nome, email e telefone]");
+        }
+        var cursor = Optional.ofNullable(search.getCursor()).map(ClientCursor::decode);
+        var cursorValue = cursor.map(ClientCursor::getValue).orElse(null);
+        var cursorId = cursor.map(ClientCursor::getId).orElse(null);
+        var pageable = PageRequest.of(0, PageSizes.clamp(search.getSize()));
+        if (search.getName() != null) {
+            return clientPage(clientRepository.searchByName(prefix("name", search.getName()), cursorValue, cursorId, pageable),
+                    ClientResponseDto::getName);
+        }
+        if (search.getEmail() != null) {
+            return clientPage(clientRepository.searchByEmail(prefix("email", search.getEmail()), cursorValue, cursorId, pageable),
+                    ClientResponseDto::getEmail);
+        }
+        return clientPage(clientRepository.searchByTelephone(prefix("telephone", search.getTelephone()), cursorValue, cursorId, pageable),
+                ClientResponseDto::getTelephone);
+    }
+
     @Transactional
     public ClientResponseDto create(ClientRequestDto clientRequestDto) {
-        return ParseObjects.clientToClientResponseDto(clientRepository.save(ParseObjects.clientRequestDtoToClient(clientRequestDto)));
+        return ParseObjects.clientToClientResponseDto(saveUnique(ParseObjects.clientRequestDtoToClient(clientRequestDto)));
     }
 
 
     @Transactional
+    // as entregas em cache carregam nome, email e telefone do cliente
+    @Caching(evict = {
+            @CacheEvict(cacheNames = Constants.CLIENT_CACHE, key = "#clientId"),
+            @CacheEvict(cacheNames = Constants.DELIVERY_CACHE, allEntries = true)
+    })
     public ClientResponseDto update(Long clientId, ClientRequestDto clientRequestDto) {
         if (clientRepository.existsById(clientId)) {
             var client = ParseObjects.clientRequestDtoToClient(clientRequestDto);
             client.setId(clientId);
-            return ParseObjects.clientToClientResponseDto(clientRepository.save(client));
+            return ParseObjects.clientToClientResponseDto(saveUnique(client));
         }
         throw DataForBusinessException.CLIENT_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(clientId));
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = Constants.CLIENT_CACHE, key = "#clientId"),
+            @CacheEvict(cacheNames = Constants.DELIVERY_CACHE, allEntries = true)
+    })
     public void delete(Long clientId) {
         if (clientRepository.existsById(clientId)) {
             clientRepository.deleteById(clientId);
@@ -51,4 +106,33 @@ public class ClientService {
         }
     }
 
+    // email e telefone repetidos são barrados pelos índices únicos no próprio insert/update, sem consultas antes;
+    // o flush traz a violação para cá em vez de deixá-la para o commit
+    private Client saveUnique(Client client) {
+        try {
+            return clientRepository.saveAndFlush(client);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateClientException.of(e).orElseThrow(() -> e);
+        }
+    }
+
+    private ClientPageResponseDto clientPage(Slice<ClientResponseDto> slice, Function<ClientResponseDto, String> searchedField) {
+        var clients = slice.getContent();
+        var last = slice.hasNext() ? clients.get(clients.size() - 1) : null;
+        return ClientPageResponseDto.builder()
+                .content(clients)
+                .nextCursor(last == null ? null : new ClientCursor(searchedField.apply(last), last.getId()).encode())
+                .build();
+    }
+
+    // o curinga fica só no fim para que o banco use o índice; curingas digitados pelo usuário são tratados como texto
+    private String prefix(String field, String term) {
+        var trimmed = term.trim();
+        if (trimmed.isEmpty()) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[" + field + ":O termo da busca não pode ser vazio]");
+        }
+        return trimmed.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
 }
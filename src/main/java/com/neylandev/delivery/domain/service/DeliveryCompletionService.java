@@ -1,11 +1,24 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.response.DeliveryTransitionItemResponseDto;
+import com.neylandev.delivery.application.response.DeliveryTransitionResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
 import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class DeliveryCompletionService {
@@ -13,18 +26,106 @@ public class DeliveryCompletionService {
     private final DeliveryRepository deliveryRepository;
     private final FindDeliveryService findDeliveryService;
     private final DeliverySendEmailService deliverySendEmailService;
+    private final DeliveryEventService deliveryEventService;
+    private final DeliveryStatsService deliveryStatsService;
 
     @Transactional
     public void complete(Long deliveryId) {
-        Delivery delivery = findDeliveryService.find(deliveryId);
-        delivery.complete();
-        deliverySendEmailService.sendEmail(deliveryRepository.save(delivery));
+        transition(deliveryId, DeliveryStatus.FINALIZED, DataForBusinessException.DELIVERY_CANNOT_BE_COMPLETED);
     }
 
     @Transactional
     public void cancel(Long deliveryId) {
-        Delivery delivery = findDeliveryService.find(deliveryId);
-        delivery.cancel();
-        deliverySendEmailService.sendEmail(deliveryRepository.save(delivery));
+        transition(deliveryId, DeliveryStatus.CANCELLED, DataForBusinessException.DELIVERY_CANNOT_BE_CANCELED);
+    }
+
+    @Transactional
+    public DeliveryTransitionResponseDto completeAll(List<Long> deliveryIds) {
+        return transitionAll(deliveryIds, DeliveryStatus.FINALIZED, DataForBusinessException.DELIVERY_CANNOT_BE_COMPLETED);
+    }
+
+    @Transactional
+    public DeliveryTransitionResponseDto cancelAll(List<Long> deliveryIds) {
+        return transitionAll(deliveryIds, DeliveryStatus.CANCELLED, DataForBusinessException.DELIVERY_CANNOT_BE_CANCELED);
+    }
+
+    // a transição é um único UPDATE condicionado ao status PENDING, então só uma requisição concorrente vence;
+    // a entrega é carregada antes com o cliente e ajustada em memória para o email e o evento, sem nova consulta
+    private void transition(Long deliveryId, DeliveryStatus deliveryStatus, DataForBusinessException cannotTransition) {
+        var delivery = deliveryRepository.findWithClientById(deliveryId)
+                .orElseThrow(() -> DataForBusinessException.DELIVERY_NOT_FOUND
+                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryId)));
+        var endDate = OffsetDateTime.now();
+        if (!DeliveryStatus.PENDING.equals(delivery.getDeliveryStatus())
+                || deliveryRepository.transitionStatus(deliveryId, DeliveryStatus.PENDING, deliveryStatus, endDate) == 0) {
+            throw cannotTransition.asBusinessException();
+        }
+        delivery.setDeliveryStatus(deliveryStatus);
+        delivery.setEndDate(endDate);
+        deliveryStatsService.deliveriesTransitioned(deliveryStatus, 1);
+        findDeliveryService.evict(deliveryId);
+        deliverySendEmailService.sendEmail(delivery);
+        deliveryEventService.transitioned(delivery);
+    }
+
+    // As entregas são lidas com lock de escrita, então o status visto aqui não muda até o commit: as pendentes são
+    // exatamente as que o UPDATE seguinte transiciona, e uma requisição concorrente espera e já as encontra finalizadas
+    private DeliveryTransitionResponseDto transitionAll(List<Long> deliveryIds, DeliveryStatus deliveryStatus,
+                                                        DataForBusinessException cannotTransition) {
+        var uniqueDeliveryIds = new LinkedHashSet<>(deliveryIds);
+        var deliveries = deliveryRepository.findAllWithClientByIdIn(uniqueDeliveryIds).stream()
+                .collect(Collectors.toMap(Delivery::getId, Function.identity()));
+
+        var transitionedIds = deliveries.values().stream()
+                .filter(delivery -> DeliveryStatus.PENDING.equals(delivery.getDeliveryStatus()))
+                .map(Delivery::getId)
+                .collect(Collectors.toSet());
+        var endDate = OffsetDateTime.now();
+        if (!transitionedIds.isEmpty()) {
+            var updated = deliveryRepository.transitionStatuses(transitionedIds, DeliveryStatus.PENDING, deliveryStatus, endDate);
+            if (updated != transitionedIds.size()) {
+                throw new IllegalStateException("Entregas bloqueadas mudaram de status durante a transição: "
+                        + updated + " de " + transitionedIds.size());
+            }
+        }
+
+        var results = new ArrayList<DeliveryTransitionItemResponseDto>();
+        var transitioned = new ArrayList<Delivery>();
+        for (Long deliveryId : uniqueDeliveryIds) {
+            var delivery = deliveries.get(deliveryId);
+            try {
+                if (delivery == null) {
+                    throw DataForBusinessException.DELIVERY_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryId));
+                }
+                if (!transitionedIds.contains(deliveryId)) {
+                    throw cannotTransition.asBusinessException();
+                }
+                // a entidade já foi desanexada pelo UPDATE, o estado é ajustado apenas para montar o email
+                delivery.setDeliveryStatus(deliveryStatus);
+                delivery.setEndDate(endDate);
+                transitioned.add(delivery);
+                findDeliveryService.evict(deliveryId);
+                results.add(DeliveryTransitionItemResponseDto.builder()
+                        .deliveryId(deliveryId)
+                        .status(HttpStatus.NO_CONTENT.value())
+                        .build());
+            } catch (BusinessException businessException) {
+                results.add(DeliveryTransitionItemResponseDto.builder()
+                        .deliveryId(deliveryId)
+                        .status(businessException.getHttpStatus().value())
+                        .message(businessException.getMessage())
+                        .description(businessException.getDescription())
+                        .build());
+            }
+        }
+
+        deliveryStatsService.deliveriesTransitioned(deliveryStatus, transitioned.size());
+        deliverySendEmailService.sendEmails(transitioned);
+        transitioned.forEach(deliveryEventService::transitioned);
+        return DeliveryTransitionResponseDto.builder()
+                .succeeded(transitioned.size())
+                .failed(results.size() - transitioned.size())
+                .results(results)
+                .build();
     }
 }
@@ -1,19 +1,41 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.request.ClientDeliveryFilterRequestDto;
+import com.neylandev.delivery.application.request.DeliveryFilterRequestDto;
 import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import com.neylandev.delivery.application.response.DeliveryBatchItemResponseDto;
+import com.neylandev.delivery.application.response.DeliveryBatchResponseDto;
+import com.neylandev.delivery.application.response.DeliveryPageResponseDto;
 import com.neylandev.delivery.application.response.DeliveryResponseDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.enums.DeliveryStatus;
 import com.neylandev.delivery.domain.model.Client;
+import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.repository.ClientRepository;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.domain.utils.DeliveryCursor;
+import com.neylandev.delivery.domain.utils.DeliveryVersion;
+import com.neylandev.delivery.domain.utils.PageSizes;
 import com.neylandev.delivery.domain.utils.ParseObjects;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,29 +43,145 @@ public class DeliveryCreationService {
 
     private final DeliveryRepository deliveryRepository;
     private final ClientRepository clientRepository;
+    private final Validator validator;
+    private final DeliveryEventService deliveryEventService;
+    private final DeliveryStatsService deliveryStatsService;
     private final FindDeliveryService findDeliveryService;
 
     @Transactional
     public DeliveryResponseDto save(DeliveryRequestDto deliveryRequestDto) {
         Client client = findClientById(deliveryRequestDto.getClientId());
+        var delivery = deliveryRepository.save(newDelivery(deliveryRequestDto, client));
+        deliveryStatsService.deliveriesCreated(List.of(delivery));
+        var deliveryResponseDto = ParseObjects.deliveryToDeliveryResponseDto(delivery);
+        deliveryEventService.created(deliveryResponseDto);
+        return deliveryResponseDto;
+    }
+
+    @Transactional
+    public DeliveryBatchResponseDto saveAll(List<DeliveryRequestDto> deliveryRequestDtos) {
+        if (deliveryRequestDtos == null || deliveryRequestDtos.isEmpty() || deliveryRequestDtos.size() > Constants.MAX_BATCH_SIZE) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[deliveries:O lote deve conter entre 1 e " + Constants.MAX_BATCH_SIZE + " entregas]");
+        }
+        var results = new DeliveryBatchItemResponseDto[deliveryRequestDtos.size()];
+        var validIndexes = new ArrayList<Integer>();
+        for (int i = 0; i < deliveryRequestDtos.size(); i++) {
+            var violations = deliveryRequestDtos.get(i) == null ? null : validator.validate(deliveryRequestDtos.get(i));
+            if (violations == null || !violations.isEmpty()) {
+                results[i] = failedItem(i, DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                        violations == null ? "[delivery:A entrega não pode ser nula]" : violationsDescription(violations)));
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        var clientIds = validIndexes.stream().map(i -> deliveryRequestDtos.get(i).getClientId()).collect(Collectors.toSet());
+        var clients = clientRepository.findAllById(clientIds).stream().collect(Collectors.toMap(Client::getId, Function.identity()));
+
+        var createdIndexes = new ArrayList<Integer>();
+        var deliveries = new ArrayList<Delivery>();
+        for (Integer i : validIndexes) {
+            var deliveryRequestDto = deliveryRequestDtos.get(i);
+            var client = clients.get(deliveryRequestDto.getClientId());
+            if (client == null) {
+                results[i] = failedItem(i, DataForBusinessException.CLIENT_DELIVERY_NOT_FOUND
+                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryRequestDto.getClientId())));
+            } else {
+                createdIndexes.add(i);
+                deliveries.add(newDelivery(deliveryRequestDto, client));
+            }
+        }
+
+        var savedDeliveries = deliveryRepository.saveAll(deliveries);
+        deliveryStatsService.deliveriesCreated(savedDeliveries);
+        for (int j = 0; j < savedDeliveries.size(); j++) {
+            int i = createdIndexes.get(j);
+            var deliveryResponseDto = ParseObjects.deliveryToDeliveryResponseDto(savedDeliveries.get(j));
+            deliveryEventService.created(deliveryResponseDto);
+            results[i] = DeliveryBatchItemResponseDto.builder()
+                    .index(i)
+                    .status(HttpStatus.CREATED.value())
+                    .delivery(deliveryResponseDto)
+                    .build();
+        }
+
+        return DeliveryBatchResponseDto.builder()
+                .created(savedDeliveries.size())
+                .failed(deliveryRequestDtos.size() - savedDeliveries.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private Delivery newDelivery(DeliveryRequestDto deliveryRequestDto, Client client) {
         var delivery = ParseObjects.deliveryRequestDtoToDelivery(deliveryRequestDto);
         delivery.setDeliveryStatus(DeliveryStatus.PENDING);
         delivery.setOrderedDate(OffsetDateTime.now());
         delivery.setClient(client);
-        return ParseObjects.deliveryToDeliveryResponseDto(deliveryRepository.save(delivery));
+        return delivery;
     }
 
+    private String violationsDescription(Set<ConstraintViolation<DeliveryRequestDto>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ":" + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList())
+                .toString();
+    }
+
+    private DeliveryBatchItemResponseDto failedItem(int index, BusinessException businessException) {
+        return DeliveryBatchItemResponseDto.builder()
+                .index(index)
+                .status(businessException.getHttpStatus().value())
+                .message(businessException.getMessage())
+                .description(businessException.getDescription())
+                .build();
+    }
+
+    // cópia desanexada a partir do cache: a entrega só precisa do id para a FK e dos dados para a resposta
     private Client findClientById(Long clientId) {
-        return clientRepository.findById(clientId)
+        return clientRepository.findResponseById(clientId).map(ParseObjects::clientResponseDtoToClient)
                 .orElseThrow(() -> DataForBusinessException.CLIENT_DELIVERY_NOT_FOUND
                         .asBusinessExceptionWithDescriptionFormatted(Long.toString(clientId)));
     }
 
-    public List<DeliveryResponseDto> findAll() {
-        return ParseObjects.listDeliveryToListDeliveryResponseDto(deliveryRepository.findAll());
+    @Transactional(readOnly = true)
+    public DeliveryPageResponseDto findAll(DeliveryFilterRequestDto filter) {
+        var cursor = Optional.ofNullable(filter.getCursor()).map(DeliveryCursor::decode);
+        var slice = deliveryRepository.findPage(filter.getDeliveryStatus(), filter.getClientId(),
+                filter.getOrderedDateFrom(), filter.getOrderedDateTo(),
+                cursor.map(DeliveryCursor::getOrderedDate).orElse(null), cursor.map(DeliveryCursor::getId).orElse(null),
+                PageRequest.of(0, PageSizes.clamp(filter.getSize())));
+        return deliveryPage(slice);
+    }
+
+    @Transactional(readOnly = true)
+    public DeliveryPageResponseDto findAllOfClient(Long clientId, ClientDeliveryFilterRequestDto filter) {
+        var cursor = Optional.ofNullable(filter.getCursor()).map(DeliveryCursor::decode);
+        var slice = deliveryRepository.findPageByClientId(clientId, filter.getDeliveryStatus(),
+                cursor.map(DeliveryCursor::getOrderedDate).orElse(null), cursor.map(DeliveryCursor::getId).orElse(null),
+                PageRequest.of(0, PageSizes.clamp(filter.getSize())));
+        // Só consulta o cliente quando a página vem vazia, para diferenciar cliente sem entregas de cliente inexistente
+        if (!slice.hasContent() && clientRepository.findResponseById(clientId).isEmpty()) {
+            throw DataForBusinessException.CLIENT_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(clientId));
+        }
+        return deliveryPage(slice);
+    }
+
+    private DeliveryPageResponseDto deliveryPage(Slice<DeliveryResponseDto> slice) {
+        var deliveries = slice.getContent();
+        return DeliveryPageResponseDto.builder()
+                .content(deliveries)
+                .nextCursor(slice.hasNext() ? DeliveryCursor.of(deliveries.get(deliveries.size() - 1)).encode() : null)
+                .build();
     }
 
     public DeliveryResponseDto findById(Long deliveryId) {
-        return ParseObjects.deliveryToDeliveryResponseDto(findDeliveryService.find(deliveryId));
+        return findDeliveryService.findResponse(deliveryId);
+    }
+
+    // a versão vem da mesma resposta em cache, então o If-None-Match de uma entrega quente não consulta o banco
+    public DeliveryVersion findVersion(Long deliveryId) {
+        return DeliveryVersion.of(findDeliveryService.findResponse(deliveryId));
     }
 }
@@ -0,0 +1,87 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import com.neylandev.delivery.domain.repository.DeliveryEmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DeliveryEmailOutboxService {
+
+    private final DeliveryEmailOutboxRepository deliveryEmailOutboxRepository;
+
+    @Value("${delivery.email.outbox.lease:PT30S}")
+    private Duration lease;
+
+    @Value("${delivery.email.outbox.backoff-initial:PT1S}")
+    private Duration backoffInitial;
+
+    @Value("${delivery.email.outbox.backoff-max:PT5M}")
+    private Duration backoffMax;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(DeliveryEmailDto deliveryEmailDto) {
+        deliveryEmailOutboxRepository.save(newDeliveryEmailOutbox(deliveryEmailDto, OffsetDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(Collection<DeliveryEmailDto> deliveryEmailDtos) {
+        var now = OffsetDateTime.now();
+        deliveryEmailOutboxRepository.saveAll(deliveryEmailDtos.stream()
+                .map(deliveryEmailDto -> newDeliveryEmailOutbox(deliveryEmailDto, now))
+                .collect(Collectors.toList()));
+    }
+
+    private DeliveryEmailOutbox newDeliveryEmailOutbox(DeliveryEmailDto deliveryEmailDto, OffsetDateTime now) {
+        return DeliveryEmailOutbox.builder()
+                .clientEmail(deliveryEmailDto.getClientEmail())
+                .subject(deliveryEmailDto.getSubject())
+                .body(deliveryEmailDto.getBody())
+                .createdDate(now)
+                .nextAttemptDate(now)
+                .build();
+    }
+
+    @Transactional
+    public List<DeliveryEmailOutbox> claimBatch(int batchSize) {
+        var now = OffsetDateTime.now();
+        var batch = deliveryEmailOutboxRepository.findDue(now, PageRequest.of(0, batchSize));
+        batch.forEach(deliveryEmailOutbox -> deliveryEmailOutbox.setNextAttemptDate(now.plus(lease)));
+        return batch;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            deliveryEmailOutboxRepository.deleteByIdIn(ids);
+        }
+    }
+
+    @Transactional
+    public void reschedule(Collection<DeliveryEmailOutbox> failed) {
+        var now = OffsetDateTime.now();
+        failed.forEach(deliveryEmailOutbox -> {
+            deliveryEmailOutbox.setAttempts(deliveryEmailOutbox.getAttempts() + 1);
+            deliveryEmailOutbox.setNextAttemptDate(now.plus(backoff(deliveryEmailOutbox.getAttempts())));
+        });
+        deliveryEmailOutboxRepository.saveAll(failed);
+    }
+
+    private Duration backoff(int attempts) {
+        var exponent = Math.min(attempts - 1, 20);
+        var backoff = backoffInitial.multipliedBy(1L << exponent);
+        return backoff.compareTo(backoffMax) > 0 ? backoffMax : backoff;
+    }
+}
@@ -0,0 +1,57 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.application.response.DeliveryEventResponseDto;
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.application.response.OccurrenceResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryEventType;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.model.Delivery;
+import com.neylandev.delivery.infrastructure.sse.DeliveryEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Os eventos são entregues aos assinantes apenas depois do commit da transação que os publicou
+@Service
+@RequiredArgsConstructor
+public class DeliveryEventService {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final DeliveryEventBroadcaster deliveryEventBroadcaster;
+
+    public SseEmitter subscribe(Long clientId) {
+        return deliveryEventBroadcaster.subscribe(clientId);
+    }
+
+    public void created(DeliveryResponseDto deliveryResponseDto) {
+        applicationEventPublisher.publishEvent(DeliveryEventResponseDto.builder()
+                .type(DeliveryEventType.CREATED)
+                .deliveryId(deliveryResponseDto.getId())
+                .clientId(deliveryResponseDto.getClientId())
+                .deliveryStatus(deliveryResponseDto.getDeliveryStatus())
+                .occurredDate(deliveryResponseDto.getOrderedDate())
+                .build());
+    }
+
+    public void transitioned(Delivery delivery) {
+        applicationEventPublisher.publishEvent(DeliveryEventResponseDto.builder()
+                .type(DeliveryStatus.FINALIZED.equals(delivery.getDeliveryStatus()) ? DeliveryEventType.COMPLETED : DeliveryEventType.CANCELLED)
+                .deliveryId(delivery.getId())
+                .clientId(delivery.getClient().getId())
+                .deliveryStatus(delivery.getDeliveryStatus())
+                .occurredDate(delivery.getEndDate())
+                .build());
+    }
+
+    public void occurrenceAdded(Delivery delivery, OccurrenceResponseDto occurrenceResponseDto) {
+        applicationEventPublisher.publishEvent(DeliveryEventResponseDto.builder()
+                .type(DeliveryEventType.OCCURRENCE_ADDED)
+                .deliveryId(delivery.getId())
+                .clientId(delivery.getClient().getId())
+                .deliveryStatus(delivery.getDeliveryStatus())
+                .description(occurrenceResponseDto.getDescription())
+                .occurredDate(occurrenceResponseDto.getRegisterDate())
+                .build());
+    }
+}
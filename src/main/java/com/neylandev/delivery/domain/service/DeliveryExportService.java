@@ -0,0 +1,78 @@
+package com.neylandev.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.application.request.DeliveryFilterRequestDto;
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryExportFormat;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class DeliveryExportService {
+
+    private static final String CSV_HEADER = "id,clientId,clientName,clientEmail,clientTelephone,recipientName," +
+            "recipientStreet,recipientNumber,recipientComplement,recipientNeighborhood,tax,deliveryStatus,orderedDate,endDate";
+
+    private final DeliveryRepository deliveryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(DeliveryFilterRequestDto filter, DeliveryExportFormat format, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == DeliveryExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (var deliveries = deliveryRepository.streamAll(filter.getDeliveryStatus(), filter.getClientId(),
+                filter.getOrderedDateFrom(), filter.getOrderedDateTo())) {
+            var iterator = deliveries.iterator();
+            var written = 0;
+            while (iterator.hasNext()) {
+                var deliveryResponseDto = iterator.next();
+                if (format == DeliveryExportFormat.CSV) {
+                    writeCsv(writer, deliveryResponseDto);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(deliveryResponseDto));
+                }
+                writer.write('\n');
+                if (++written % Constants.EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer, DeliveryResponseDto deliveryResponseDto) throws IOException {
+        writer.write(Stream.of(deliveryResponseDto.getId(), deliveryResponseDto.getClientId(),
+                deliveryResponseDto.getClientName(), deliveryResponseDto.getClientEmail(),
+                deliveryResponseDto.getClientTelephone(), deliveryResponseDto.getRecipientName(),
+                deliveryResponseDto.getRecipientStreet(), deliveryResponseDto.getRecipientNumber(),
+                deliveryResponseDto.getRecipientComplement(), deliveryResponseDto.getRecipientNeighborhood(),
+                deliveryResponseDto.getTax(), deliveryResponseDto.getDeliveryStatus(),
+                deliveryResponseDto.getOrderedDate(), deliveryResponseDto.getEndDate())
+                .map(value -> csvValue(Objects.toString(value, "")))
+                .collect(Collectors.joining(",")));
+    }
+
+    private String csvValue(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,36 +1,32 @@
 package com.neylandev.delivery.domain.service;
 
 import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
-import com.neylandev.delivery.domain.enums.DeliveryStatus;
 import com.neylandev.delivery.domain.model.Delivery;
-import com.neylandev.delivery.domain.producer.DeliverySendEmailProducer;
+import com.neylandev.delivery.infrastructure.email.DeliveryEmailTemplates;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @AllArgsConstructor
 public class DeliverySendEmailService {
 
-    private final DeliverySendEmailProducer deliverySendEmailProducer;
+    private final DeliveryEmailOutboxService deliveryEmailOutboxService;
+    private final DeliveryEmailTemplates deliveryEmailTemplates;
 
     public void sendEmail(Delivery delivery){
-        DeliveryEmailDto deliveryEmailDto = delivery.getDeliveryStatus().equals(DeliveryStatus.FINALIZED) ? getDeliveryEmailDtoFinalized(delivery) : getDeliveryEmailDtoCanceled(delivery);
-        deliverySendEmailProducer.send(deliveryEmailDto);
+        deliveryEmailOutboxService.enqueue(getDeliveryEmailDto(delivery));
     }
 
-    private DeliveryEmailDto getDeliveryEmailDtoCanceled(Delivery delivery) {
-        return DeliveryEmailDto.builder()
-                .clientEmail(delivery.getClient().getEmail())
-                .subject("O envio do produto foi cancelado")
-                .body(String.format("O produto de %s não pode ser enviado", delivery.getClient().getName()))
-                .build();
+    public void sendEmails(List<Delivery> deliveries) {
+        if (!deliveries.isEmpty()) {
+            deliveryEmailOutboxService.enqueueAll(deliveries.stream().map(this::getDeliveryEmailDto).collect(Collectors.toList()));
+        }
     }
 
-    private DeliveryEmailDto getDeliveryEmailDtoFinalized(Delivery delivery) {
-        return DeliveryEmailDto.builder()
-                .clientEmail(delivery.getClient().getEmail())
-                .subject("Produto recebido com sucesso")
-                .body(String.format("O produto de %s foi recebido por %s", delivery.getClient().getName(), delivery.getRecipient().getName()))
-                .build();
+    private DeliveryEmailDto getDeliveryEmailDto(Delivery delivery) {
+        return deliveryEmailTemplates.render(delivery);
     }
 }
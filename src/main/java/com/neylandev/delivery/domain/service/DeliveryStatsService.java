@@ -0,0 +1,209 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.application.request.DeliveryStatsFilterRequestDto;
+import com.neylandev.delivery.application.response.DeliveryStatsResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.model.Delivery;
+import com.neylandev.delivery.domain.model.DeliveryDailyStats;
+import com.neylandev.delivery.domain.model.DeliveryOccurrenceCounter;
+import com.neylandev.delivery.domain.model.DeliveryStatsCounter;
+import com.neylandev.delivery.domain.repository.DeliveryDailyStatsRepository;
+import com.neylandev.delivery.domain.repository.DeliveryOccurrenceCounterRepository;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.repository.DeliveryStatsCounterRepository;
+import com.neylandev.delivery.domain.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// As estatísticas são mantidas por UPDATEs incrementais nas mesmas transações que alteram as entregas,
+// então a consulta lê poucas linhas independente do tamanho das tabelas; o rebuild corrige eventuais desvios
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryStatsService {
+
+    private static final String OCCURRENCES_COUNTER = "occurrences";
+    private static final long OCCURRENCE_RECOUNT_CHUNK = 1000;
+
+    private final DeliveryStatsCounterRepository deliveryStatsCounterRepository;
+    private final DeliveryDailyStatsRepository deliveryDailyStatsRepository;
+    private final DeliveryOccurrenceCounterRepository deliveryOccurrenceCounterRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${delivery.stats.zone-id:UTC}")
+    private ZoneId zoneId;
+
+    // entregas anteriores às estatísticas recebem o contador de ocorrências uma vez por instância, na primeira preparação
+    private volatile boolean occurrenceCountersCreated;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deliveriesCreated(List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        deliveryOccurrenceCounterRepository.saveAll(deliveries.stream()
+                .map(delivery -> DeliveryOccurrenceCounter.builder().deliveryId(delivery.getId()).build())
+                .collect(Collectors.toList()));
+        incrementCounter(statusCounter(DeliveryStatus.PENDING), deliveries.size());
+        deliveries.stream()
+                .collect(Collectors.groupingBy(delivery -> orderedDay(delivery.getOrderedDate()), TreeMap::new, Collectors.toList()))
+                .forEach((orderedDay, ofDay) -> incrementDailyStats(orderedDay, ofDay.size(),
+                        ofDay.stream().map(delivery -> tax(delivery.getTax())).reduce(BigDecimal.ZERO, BigDecimal::add)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deliveriesTransitioned(DeliveryStatus deliveryStatus, int count) {
+        if (count > 0) {
+            incrementCounter(statusCounter(DeliveryStatus.PENDING), -count);
+            incrementCounter(statusCounter(deliveryStatus), count);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void occurrenceAdded(Long deliveryId) {
+        // o contador é criado com a entrega ou pelo prepare, nunca aqui: dois inserts concorrentes violariam a chave
+        if (deliveryOccurrenceCounterRepository.increment(deliveryId) == 0) {
+            log.warn("Entrega {} sem contador de ocorrências; o valor será corrigido no próximo rebuild", deliveryId);
+        }
+        incrementCounter(OCCURRENCES_COUNTER, 1);
+    }
+
+    @Transactional(readOnly = true)
+    public DeliveryStatsResponseDto find(DeliveryStatsFilterRequestDto filter) {
+        var to = Optional.ofNullable(filter.getTo()).orElseGet(() -> LocalDate.now(zoneId));
+        var from = Optional.ofNullable(filter.getFrom()).orElseGet(() -> to.minusDays(Constants.DEFAULT_STATS_DAYS - 1L));
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= Constants.MAX_STATS_DAYS) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[from:O período deve ter entre 1 e " + Constants.MAX_STATS_DAYS + " dias]");
+        }
+        var counters = deliveryStatsCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(DeliveryStatsCounter::getName, DeliveryStatsCounter::getTotal));
+        var deliveriesByStatus = new EnumMap<DeliveryStatus, Long>(DeliveryStatus.class);
+        Arrays.stream(DeliveryStatus.values())
+                .forEach(deliveryStatus -> deliveriesByStatus.put(deliveryStatus, counters.getOrDefault(statusCounter(deliveryStatus), 0L)));
+        return DeliveryStatsResponseDto.builder()
+                .deliveriesByStatus(deliveriesByStatus)
+                .occurrences(counters.getOrDefault(OCCURRENCES_COUNTER, 0L))
+                .dailyStats(deliveryDailyStatsRepository.findAllBetween(from, to))
+                .mostOccurrences(deliveryOccurrenceCounterRepository.findMostOccurrences(PageRequest.of(0, Constants.STATS_MOST_OCCURRENCES)))
+                .build();
+    }
+
+    // Cria as linhas que serão incrementadas antes que as requisições precisem delas, evitando inserts concorrentes.
+    // Cada etapa tem a sua transação curta, para não segurar locks que as requisições disputam
+    public void prepare() {
+        var empty = deliveryStatsCounterRepository.count() == 0;
+        transactionTemplate.executeWithoutResult(status -> createMissingCounters());
+        var today = LocalDate.now(zoneId);
+        transactionTemplate.executeWithoutResult(status -> createMissingDailyStats(List.of(today, today.plusDays(1))));
+        if (!occurrenceCountersCreated) {
+            transactionTemplate.executeWithoutResult(status -> deliveryOccurrenceCounterRepository.insertMissing());
+            occurrenceCountersCreated = true;
+        }
+        if (empty) {
+            rebuild();
+        }
+    }
+
+    // Recalcula a partir das tabelas de entregas e ocorrências com um UPDATE por linha, que conta e grava no mesmo
+    // comando; incrementos feitos durante o rebuild não são sobrescritos. Cada UPDATE roda na sua própria transação:
+    // o subselect bloqueia as linhas lidas até o commit, e uma transação única para tudo travaria as escritas
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> createMissingCounters());
+        Arrays.stream(DeliveryStatus.values()).forEach(deliveryStatus -> transactionTemplate.executeWithoutResult(status ->
+                deliveryStatsCounterRepository.recountDeliveries(statusCounter(deliveryStatus), deliveryStatus)));
+        transactionTemplate.executeWithoutResult(status -> deliveryStatsCounterRepository.recountOccurrences(OCCURRENCES_COUNTER));
+
+        var orderedDays = transactionTemplate.execute(status -> {
+            try (var deliveries = deliveryRepository.streamAll(null, null, null, null)) {
+                return deliveries.map(delivery -> orderedDay(delivery.getOrderedDate())).collect(Collectors.toCollection(TreeSet::new));
+            }
+        });
+        transactionTemplate.executeWithoutResult(status -> createMissingDailyStats(orderedDays));
+        var days = deliveryDailyStatsRepository.findAllOrderedDays();
+        days.forEach(orderedDay -> transactionTemplate.executeWithoutResult(status -> deliveryDailyStatsRepository.recount(orderedDay,
+                orderedDay.atStartOfDay(zoneId).toOffsetDateTime(), orderedDay.plusDays(1).atStartOfDay(zoneId).toOffsetDateTime())));
+
+        transactionTemplate.executeWithoutResult(status -> deliveryOccurrenceCounterRepository.insertMissing());
+        occurrenceCountersCreated = true;
+        var maxDeliveryId = Optional.ofNullable(deliveryOccurrenceCounterRepository.findMaxDeliveryId()).orElse(0L);
+        for (long from = 0; from <= maxDeliveryId; from += OCCURRENCE_RECOUNT_CHUNK) {
+            var to = from + OCCURRENCE_RECOUNT_CHUNK - 1;
+            var chunkFrom = from;
+            transactionTemplate.executeWithoutResult(status -> deliveryOccurrenceCounterRepository.recountBetween(chunkFrom, to));
+        }
+        log.info("Estatísticas de entregas recalculadas: {} contadores e {} dias", counterNames().size(), days.size());
+    }
+
+    private void createMissingCounters() {
+        var existingCounters = deliveryStatsCounterRepository.findAllById(counterNames()).stream()
+                .map(DeliveryStatsCounter::getName)
+                .collect(Collectors.toSet());
+        deliveryStatsCounterRepository.saveAll(counterNames().stream()
+                .filter(name -> !existingCounters.contains(name))
+                .map(name -> DeliveryStatsCounter.builder().name(name).build())
+                .collect(Collectors.toList()));
+    }
+
+    private void createMissingDailyStats(Collection<LocalDate> days) {
+        var existingDays = deliveryDailyStatsRepository.findAllById(days).stream()
+                .map(DeliveryDailyStats::getOrderedDay)
+                .collect(Collectors.toSet());
+        deliveryDailyStatsRepository.saveAll(days.stream()
+                .filter(day -> !existingDays.contains(day))
+                .map(day -> DeliveryDailyStats.builder().orderedDay(day).taxTotal(BigDecimal.ZERO).build())
+                .collect(Collectors.toList()));
+    }
+
+    private void incrementCounter(String name, long delta) {
+        if (deliveryStatsCounterRepository.increment(name, delta) == 0) {
+            deliveryStatsCounterRepository.save(DeliveryStatsCounter.builder().name(name).total(delta).build());
+        }
+    }
+
+    private void incrementDailyStats(LocalDate orderedDay, long deliveries, BigDecimal tax) {
+        if (deliveryDailyStatsRepository.increment(orderedDay, deliveries, tax) == 0) {
+            deliveryDailyStatsRepository.save(DeliveryDailyStats.builder().orderedDay(orderedDay).deliveries(deliveries).taxTotal(tax).build());
+        }
+    }
+
+    private List<String> counterNames() {
+        return Stream.concat(Arrays.stream(DeliveryStatus.values()).map(this::statusCounter), Stream.of(OCCURRENCES_COUNTER))
+                .collect(Collectors.toList());
+    }
+
+    private String statusCounter(DeliveryStatus deliveryStatus) {
+        return "deliveries." + deliveryStatus.name();
+    }
+
+    private LocalDate orderedDay(OffsetDateTime orderedDate) {
+        return orderedDate.atZoneSameInstant(zoneId).toLocalDate();
+    }
+
+    private BigDecimal tax(BigDecimal tax) {
+        return tax == null ? BigDecimal.ZERO : tax;
+    }
+}
@@ -1,9 +1,13 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.utils.Constants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,4 +22,25 @@ public class FindDeliveryService {
                         .asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryId)));
     }
 
+    // sync faz o carregamento dentro do compute do Caffeine: um evict da mesma chave espera o carregamento terminar
+    // e o remove, então uma leitura anterior ao commit de uma transição nunca fica no cache depois dele
+    @Cacheable(cacheNames = Constants.DELIVERY_CACHE, key = "#deliveryId", sync = true)
+    public DeliveryResponseDto findResponse(Long deliveryId) {
+        return deliveryRepository.findResponseById(deliveryId)
+                .orElseThrow(() -> DataForBusinessException.DELIVERY_NOT_FOUND
+                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryId)));
+    }
+
+    public void checkExists(Long deliveryId) {
+        if (!deliveryRepository.existsById(deliveryId)) {
+            throw DataForBusinessException.DELIVERY_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(deliveryId));
+        }
+    }
+
+    // o cache é transacional, então a remoção acontece somente após o commit de quem alterou a entrega
+    @CacheEvict(cacheNames = Constants.DELIVERY_CACHE, key = "#deliveryId")
+    public void evict(Long deliveryId) {
+        // a remoção é feita pelo @CacheEvict
+    }
+
 }
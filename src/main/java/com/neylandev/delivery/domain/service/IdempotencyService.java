@@ -0,0 +1,84 @@
+package com.neylandev.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.idempotency.IdempotencyStore;
+import com.neylandev.delivery.infrastructure.idempotency.IdempotentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request, Class<T> responseType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > Constants.MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[" + Constants.IDEMPOTENCY_KEY_HEADER + ":A chave deve ter entre 1 e " + Constants.MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres]");
+        }
+        var key = operation + ":" + idempotencyKey;
+        var fingerprint = fingerprint(request);
+        var stored = idempotencyStore.find(key);
+        if (stored.isPresent()) {
+            return replay(stored.get(), fingerprint, responseType);
+        }
+
+        var executed = new AtomicReference<ResponseEntity<T>>();
+        IdempotentResponse idempotentResponse;
+        try {
+            idempotentResponse = idempotencyStore.save(key, () -> {
+                var response = action.get();
+                executed.set(response);
+                return IdempotentResponse.builder()
+                        .fingerprint(fingerprint)
+                        .status(response.getStatusCodeValue())
+                        .body(toJson(response.getBody()))
+                        .build();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // outra instância gravou a mesma chave primeiro e a criação desta requisição foi desfeita
+            return replay(idempotencyStore.find(key).orElseThrow(() -> e), fingerprint, responseType);
+        }
+        return executed.get() != null ? executed.get() : replay(idempotentResponse, fingerprint, responseType);
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotentResponse idempotentResponse, String fingerprint, Class<T> responseType) {
+        if (!idempotentResponse.getFingerprint().equals(fingerprint)) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted(
+                    "[" + Constants.IDEMPOTENCY_KEY_HEADER + ":A chave já foi usada com outra requisição]");
+        }
+        return ResponseEntity.status(idempotentResponse.getStatus())
+                .header(Constants.IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString())
+                .body(fromJson(idempotentResponse.getBody(), responseType));
+    }
+
+    @SneakyThrows
+    private String fingerprint(Object request) {
+        return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+    }
+
+    @SneakyThrows
+    private String toJson(Object body) {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    @SneakyThrows
+    private <T> T fromJson(String body, Class<T> responseType) {
+        return objectMapper.readValue(body, responseType);
+    }
+}
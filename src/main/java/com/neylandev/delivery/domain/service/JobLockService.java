@@ -0,0 +1,41 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.domain.model.JobLock;
+import com.neylandev.delivery.domain.repository.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Lock entre instâncias guardado em uma linha por job; lockAtMostFor libera o lock de uma instância que caiu no meio.
+// Aquisição e liberação têm transações próprias para ficarem visíveis às outras instâncias enquanto o job roda
+@Service
+@RequiredArgsConstructor
+public class JobLockService {
+
+    private final String owner = UUID.randomUUID().toString();
+    private final JobLockRepository jobLockRepository;
+
+    // dois inserts simultâneos da primeira execução terminam em DataIntegrityViolationException para o perdedor
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration lockAtMostFor) {
+        var now = OffsetDateTime.now();
+        if (jobLockRepository.acquire(name, now, now.plus(lockAtMostFor), owner) > 0) {
+            return true;
+        }
+        if (jobLockRepository.existsById(name)) {
+            return false;
+        }
+        jobLockRepository.saveAndFlush(JobLock.builder().name(name).lockedUntil(now.plus(lockAtMostFor)).lockedBy(owner).build());
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        jobLockRepository.release(name, owner, OffsetDateTime.now());
+    }
+}
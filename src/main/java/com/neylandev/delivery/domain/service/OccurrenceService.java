@@ -1,31 +1,46 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.response.OccurrencePageResponseDto;
 import com.neylandev.delivery.application.response.OccurrenceResponseDto;
 import com.neylandev.delivery.domain.repository.OccurrenceRepository;
+import com.neylandev.delivery.domain.utils.PageSizes;
 import com.neylandev.delivery.domain.utils.ParseObjects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class OccurrenceService {
 
     private final FindDeliveryService findDeliveryService;
     private final OccurrenceRepository occurrenceRepository;
+    private final DeliveryEventService deliveryEventService;
+    private final DeliveryStatsService deliveryStatsService;
 
     @Transactional
     public OccurrenceResponseDto registerOccurrence(Long deliveryId, String description) {
         var delivery = findDeliveryService.find(deliveryId);
         var occurrence = delivery.addAndGetOccurrence(description);
-        return ParseObjects.occurrenceToOccurrenceResponseDto(occurrenceRepository.save(occurrence));
+        var occurrenceResponseDto = ParseObjects.occurrenceToOccurrenceResponseDto(occurrenceRepository.save(occurrence));
+        deliveryStatsService.occurrenceAdded(deliveryId);
+        findDeliveryService.evict(deliveryId);
+        deliveryEventService.occurrenceAdded(delivery, occurrenceResponseDto);
+        return occurrenceResponseDto;
     }
 
-    public List<OccurrenceResponseDto> findAllOccurrencesOfDelivery(Long deliveryId) {
-        var delivery = findDeliveryService.find(deliveryId);
-        return ParseObjects.listOccurrenceToListOccurrenceResponseDto(delivery.getOccurrences());
+    @Transactional(readOnly = true)
+    public OccurrencePageResponseDto findAllOccurrencesOfDelivery(Long deliveryId, Integer page, Integer size) {
+        findDeliveryService.checkExists(deliveryId);
+        var pageable = PageRequest.of(page == null || page < 0 ? 0 : page, PageSizes.clamp(size));
+        var slice = occurrenceRepository.findByDeliveryId(deliveryId, pageable);
+        return OccurrencePageResponseDto.builder()
+                .content(slice.getContent())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(slice.hasNext())
+                .build();
     }
 
 }
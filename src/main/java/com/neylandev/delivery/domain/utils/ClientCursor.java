@@ -0,0 +1,35 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posição na busca de clientes: o valor do campo pesquisado e o id, na mesma ordem do índice (campo, id)
+@Getter
+@AllArgsConstructor
+public class ClientCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String value;
+    private final Long id;
+
+    public String encode() {
+        var raw = value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ClientCursor decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // o valor pode conter o separador, o id nunca
+            var separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new ClientCursor(raw.substring(0, separatorIndex), Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted("[cursor:O cursor informado é inválido]");
+        }
+    }
+}
@@ -7,5 +7,35 @@ import lombok.NoArgsConstructor;
 public class Constants {
 
     public static final String DIRECT_SEND_EMAIL = "direct:send-email";
+    public static final String DIRECT_SEND_EMAIL_BATCH = "direct:send-email-batch";
+    public static final String DIRECT_CACHE_INVALIDATION = "direct:cache-invalidation";
+    public static final String CACHE_INVALIDATION_ROUTE = "cache-invalidation-receiver";
+    public static final String EMAIL_TASK_EXECUTOR = "emailTaskExecutor";
+    public static final String EVENT_TASK_EXECUTOR = "deliveryEventTaskExecutor";
+    public static final String MVC_TASK_EXECUTOR = "mvcTaskExecutor";
+    public static final String CLIENT_CACHE = "clients";
+    public static final String DELIVERY_CACHE = "deliveries";
+    public static final String SERVICE_TIMER = "delivery.service";
+    public static final String CAMEL_ROUTE_TIMER = "camel.route";
+    public static final String DATA_SOURCE_NAME = "deliveryDataSource";
+    public static final String QUERY_COUNT_SUMMARY = "http.server.queries";
+    public static final String QUERY_COUNT_ATTRIBUTE = "com.neylandev.delivery.queryCount";
+    public static final String CONNECTION_COUNT_ATTRIBUTE = "com.neylandev.delivery.connectionCount";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String DELIVERY_EVENTS_SUBSCRIBERS = "delivery.events.subscribers";
+    public static final String DELIVERY_EVENTS_DROPPED = "delivery.events.dropped";
+    public static final String DELIVERY_ID_SEQUENCE = "delivery";
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int EXPORT_FETCH_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    public static final int DEFAULT_STATS_DAYS = 30;
+    public static final int MAX_STATS_DAYS = 366;
+    public static final int STATS_MOST_OCCURRENCES = 10;
+    // igual ao allocation-size do gerador de ids de Delivery no orm.xml e ao hibernate.jdbc.batch_size
+    public static final int DELIVERY_ID_ALLOCATION_SIZE = 50;
 
 }
@@ -0,0 +1,46 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.model.Delivery;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class DeliveryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final OffsetDateTime orderedDate;
+    private final Long id;
+
+    public static DeliveryCursor of(Delivery delivery) {
+        return new DeliveryCursor(delivery.getOrderedDate(), delivery.getId());
+    }
+
+    public static DeliveryCursor of(DeliveryResponseDto deliveryResponseDto) {
+        return new DeliveryCursor(deliveryResponseDto.getOrderedDate(), deliveryResponseDto.getId());
+    }
+
+    public String encode() {
+        var raw = orderedDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DeliveryCursor decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new DeliveryCursor(OffsetDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw DataForBusinessException.INVALID_INPUT.asBusinessExceptionWithDescriptionFormatted("[cursor:O cursor informado é inválido]");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+// somente os campos da resposta que podem mudar depois do cadastro: o status da entrega e os dados do cliente
+@Getter
+@AllArgsConstructor
+public class DeliveryVersion {
+
+    private final DeliveryStatus deliveryStatus;
+    private final OffsetDateTime endDate;
+    private final String clientName;
+    private final String clientEmail;
+    private final String clientTelephone;
+
+    public static DeliveryVersion of(DeliveryResponseDto deliveryResponseDto) {
+        return new DeliveryVersion(deliveryResponseDto.getDeliveryStatus(), deliveryResponseDto.getEndDate(),
+                deliveryResponseDto.getClientName(), deliveryResponseDto.getClientEmail(), deliveryResponseDto.getClientTelephone());
+    }
+
+    public String eTag() {
+        return ETags.of(deliveryStatus, endDate, clientName, clientEmail, clientTelephone);
+    }
+}
@@ -0,0 +1,20 @@
+package com.neylandev.delivery.domain.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETags {
+
+    private static final String SEPARATOR = "|";
+
+    public static String of(Object... versionFields) {
+        var raw = Arrays.stream(versionFields).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+        return DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
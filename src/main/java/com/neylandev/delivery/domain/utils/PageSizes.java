@@ -0,0 +1,16 @@
+package com.neylandev.delivery.domain.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageSizes {
+
+    // tamanho ausente ou inválido usa o padrão; acima do máximo é limitado para não devolver páginas gigantes
+    public static int clamp(Integer size) {
+        if (size == null || size < 1) {
+            return Constants.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, Constants.MAX_PAGE_SIZE);
+    }
+}
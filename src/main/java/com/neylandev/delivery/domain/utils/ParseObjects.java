@@ -8,9 +8,9 @@ import com.neylandev.delivery.application.response.OccurrenceResponseDto;
 import com.neylandev.delivery.domain.model.Client;
 import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.model.Occurrence;
+import com.neylandev.delivery.domain.model.Recipient;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,14 +18,30 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ParseObjects {
 
-    private static final ModelMapper modelMapper = new ModelMapper();
-
     public static ClientResponseDto clientToClientResponseDto(Client client) {
-        return modelMapper.map(client, ClientResponseDto.class);
+        return ClientResponseDto.builder()
+                .id(client.getId())
+                .name(client.getName())
+                .email(client.getEmail())
+                .telephone(client.getTelephone())
+                .build();
+    }
+
+    public static Client clientResponseDtoToClient(ClientResponseDto clientResponseDto) {
+        var client = new Client();
+        client.setId(clientResponseDto.getId());
+        client.setName(clientResponseDto.getName());
+        client.setEmail(clientResponseDto.getEmail());
+        client.setTelephone(clientResponseDto.getTelephone());
+        return client;
     }
 
     public static Client clientRequestDtoToClient(ClientRequestDto clientRequestDto) {
-        return modelMapper.map(clientRequestDto, Client.class);
+        var client = new Client();
+        client.setName(clientRequestDto.getName());
+        client.setEmail(clientRequestDto.getEmail());
+        client.setTelephone(clientRequestDto.getTelephone());
+        return client;
     }
 
     public static List<ClientResponseDto> listClientToListClientResponseDto(List<Client> clients) {
@@ -33,11 +49,45 @@ public class ParseObjects {
     }
 
     public static DeliveryResponseDto deliveryToDeliveryResponseDto(Delivery delivery) {
-        return modelMapper.map(delivery, DeliveryResponseDto.class);
+        var deliveryResponseDto = DeliveryResponseDto.builder()
+                .id(delivery.getId())
+                .tax(delivery.getTax())
+                .deliveryStatus(delivery.getDeliveryStatus())
+                .orderedDate(delivery.getOrderedDate())
+                .endDate(delivery.getEndDate())
+                .build();
+        var client = delivery.getClient();
+        if (client != null) {
+            deliveryResponseDto.setClientId(client.getId());
+            deliveryResponseDto.setClientName(client.getName());
+            deliveryResponseDto.setClientEmail(client.getEmail());
+            deliveryResponseDto.setClientTelephone(client.getTelephone());
+        }
+        var recipient = delivery.getRecipient();
+        if (recipient != null) {
+            deliveryResponseDto.setRecipientName(recipient.getName());
+            deliveryResponseDto.setRecipientStreet(recipient.getStreet());
+            deliveryResponseDto.setRecipientNumber(recipient.getNumber());
+            deliveryResponseDto.setRecipientComplement(recipient.getComplement());
+            deliveryResponseDto.setRecipientNeighborhood(recipient.getNeighborhood());
+        }
+        return deliveryResponseDto;
     }
 
     public static Delivery deliveryRequestDtoToDelivery(DeliveryRequestDto deliveryRequestDto) {
-        return modelMapper.map(deliveryRequestDto, Delivery.class);
+        var client = new Client();
+        client.setId(deliveryRequestDto.getClientId());
+        var recipient = new Recipient();
+        recipient.setName(deliveryRequestDto.getRecipientName());
+        recipient.setStreet(deliveryRequestDto.getRecipientStreet());
+        recipient.setNumber(deliveryRequestDto.getRecipientNumber());
+        recipient.setComplement(deliveryRequestDto.getRecipientComplement());
+        recipient.setNeighborhood(deliveryRequestDto.getRecipientNeighborhood());
+        var delivery = new Delivery();
+        delivery.setClient(client);
+        delivery.setRecipient(recipient);
+        delivery.setTax(deliveryRequestDto.getTax());
+        return delivery;
     }
 
     public static List<DeliveryResponseDto> listDeliveryToListDeliveryResponseDto(List<Delivery> deliveries) {
@@ -45,7 +95,13 @@ public class ParseObjects {
     }
 
     public static OccurrenceResponseDto occurrenceToOccurrenceResponseDto(Occurrence occurrence) {
-        return modelMapper.map(occurrence, OccurrenceResponseDto.class);
+        var delivery = occurrence.getDelivery();
+        return OccurrenceResponseDto.builder()
+                .id(occurrence.getId())
+                .description(occurrence.getDescription())
+                .deliveryId(delivery != null ? delivery.getId() : null)
+                .registerDate(occurrence.getRegisterDate())
+                .build();
     }
 
     public static List<OccurrenceResponseDto> listOccurrenceToListOccurrenceResponseDto(List<Occurrence> occurrences) {
@@ -0,0 +1,77 @@
+package com.neylandev.delivery.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+// Decorador que, além de remover localmente, avisa os demais nós
+@RequiredArgsConstructor
+public class BroadcastingCache implements Cache {
+
+    @Getter
+    private final Cache target;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return target.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        target.evict(key);
+        cacheInvalidationPublisher.publish(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        var present = target.evictIfPresent(key);
+        cacheInvalidationPublisher.publish(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        target.clear();
+        cacheInvalidationPublisher.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        var present = target.invalidate();
+        cacheInvalidationPublisher.publish(getName(), null);
+        return present;
+    }
+}
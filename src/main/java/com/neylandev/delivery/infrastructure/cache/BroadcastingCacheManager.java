@@ -0,0 +1,30 @@
+package com.neylandev.delivery.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager targetCacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> Optional.ofNullable(targetCacheManager.getCache(cacheName))
+                .map(cache -> new BroadcastingCache(cache, cacheInvalidationPublisher))
+                .orElse(null));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return targetCacheManager.getCacheNames();
+    }
+}
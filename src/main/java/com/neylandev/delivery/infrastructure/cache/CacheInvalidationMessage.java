@@ -0,0 +1,21 @@
+package com.neylandev.delivery.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// key nulo remove todas as entradas do cache; a chave viaja como texto junto com o nome da sua classe
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String origin;
+    private String cacheName;
+    private String key;
+    private String keyType;
+}
@@ -0,0 +1,36 @@
+package com.neylandev.delivery.infrastructure.cache;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    @Produce(Constants.DIRECT_CACHE_INVALIDATION)
+    private ProducerTemplate producerTemplate;
+
+    @Getter
+    @Value("${cache.invalidation.node-id:${random.uuid}}")
+    private String nodeId;
+
+    // assíncrono para que a indisponibilidade do broker não atrase a requisição que alterou a entidade
+    public void publish(String cacheName, Object key) {
+        producerTemplate.asyncSendBody(Constants.DIRECT_CACHE_INVALIDATION, CacheInvalidationMessage.builder()
+                .origin(nodeId)
+                .cacheName(cacheName)
+                .key(key == null ? null : key.toString())
+                .keyType(key == null ? null : key.getClass().getName())
+                .build())
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("Falha ao publicar a invalidação do cache {} para a chave {}", cacheName, key, throwable);
+                    }
+                });
+    }
+}
@@ -0,0 +1,43 @@
+package com.neylandev.delivery.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationReceiver {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    // remove direto no cache nativo do Caffeine, sem passar pelo BroadcastingCache, para não publicar de novo
+    @SuppressWarnings("unchecked")
+    public void receive(CacheInvalidationMessage cacheInvalidationMessage) {
+        if (cacheInvalidationPublisher.getNodeId().equals(cacheInvalidationMessage.getOrigin())) {
+            return;
+        }
+        var cache = Optional.ofNullable(cacheManager.getCache(cacheInvalidationMessage.getCacheName()))
+                .map(springCache -> (Cache<Object, Object>) springCache.getNativeCache());
+        if (cache.isEmpty()) {
+            log.warn("Invalidação recebida para cache desconhecido: {}", cacheInvalidationMessage.getCacheName());
+            return;
+        }
+        if (cacheInvalidationMessage.getKey() == null) {
+            cache.get().invalidateAll();
+        } else if (Long.class.getName().equals(cacheInvalidationMessage.getKeyType())) {
+            cache.get().invalidate(Long.valueOf(cacheInvalidationMessage.getKey()));
+        } else if (String.class.getName().equals(cacheInvalidationMessage.getKeyType())) {
+            cache.get().invalidate(cacheInvalidationMessage.getKey());
+        } else {
+            // demais tipos de chave não são reconstruídos a partir do texto; remove as entradas equivalentes
+            cache.get().asMap().keySet().removeIf(key -> key.getClass().getName().equals(cacheInvalidationMessage.getKeyType())
+                    && key.toString().equals(cacheInvalidationMessage.getKey()));
+        }
+    }
+}
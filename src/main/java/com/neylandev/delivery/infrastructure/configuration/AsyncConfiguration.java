@@ -0,0 +1,132 @@
+package com.neylandev.delivery.infrastructure.configuration;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+@EnableAsync
+@EnableScheduling
+@Configuration
+public class AsyncConfiguration {
+
+    public enum RejectionPolicy {
+        CALLER_RUNS, ABORT, DISCARD
+    }
+
+    private final LongAdder emailTasksRejected = new LongAdder();
+
+    @Value("${delivery.email.executor.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${delivery.email.executor.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${delivery.email.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${delivery.email.executor.rejection-policy:CALLER_RUNS}")
+    private RejectionPolicy rejectionPolicy;
+
+    @Value("${delivery.events.executor.pool-size:2}")
+    private int eventsPoolSize;
+
+    @Value("${delivery.events.executor.max-pool-size:200}")
+    private int eventsMaxPoolSize;
+
+    @Value("${delivery.mvc.executor.core-pool-size:2}")
+    private int mvcCorePoolSize;
+
+    @Value("${delivery.mvc.executor.max-pool-size:8}")
+    private int mvcMaxPoolSize;
+
+    @Value("${delivery.mvc.executor.queue-capacity:50}")
+    private int mvcQueueCapacity;
+
+    @Bean(Constants.EMAIL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor emailTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("delivery-email-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        var delegate = rejectedExecutionHandler();
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            emailTasksRejected.increment();
+            delegate.rejectedExecution(runnable, threadPoolExecutor);
+        });
+        return executor;
+    }
+
+    // Sem fila: cada escrita pega uma thread livre ou cria outra, então o pool acompanha o número de assinantes
+    // escrevendo ao mesmo tempo (cada um tem no máximo uma escrita pendente) e uma conexão parada nunca deixa
+    // as demais esperando atrás dela. Acima do máximo a escrita é recusada e o assinante desconectado
+    @Bean(Constants.EVENT_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor deliveryEventTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(eventsPoolSize);
+        executor.setMaxPoolSize(eventsMaxPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("delivery-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // Com executores próprios declarados o Boot não cria o applicationTaskExecutor, e as respostas assíncronas do MVC
+    // (exportação em StreamingResponseBody) cairiam no SimpleAsyncTaskExecutor, que cria uma thread por requisição.
+    // Acima do limite a exportação é recusada em vez de abrir threads sem controle.
+    @Bean(Constants.MVC_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor mvcTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mvcCorePoolSize);
+        executor.setMaxPoolSize(mvcMaxPoolSize);
+        executor.setQueueCapacity(mvcQueueCapacity);
+        executor.setThreadNamePrefix("delivery-mvc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder mvcTaskExecutorMetrics(@Qualifier(Constants.MVC_TASK_EXECUTOR) ThreadPoolTaskExecutor mvcTaskExecutor) {
+        return meterRegistry -> new ExecutorServiceMetrics(mvcTaskExecutor.getThreadPoolExecutor(), Constants.MVC_TASK_EXECUTOR,
+                Collections.emptyList()).bindTo(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder emailTaskExecutorMetrics(@Qualifier(Constants.EMAIL_TASK_EXECUTOR) ThreadPoolTaskExecutor emailTaskExecutor) {
+        return meterRegistry -> {
+            new ExecutorServiceMetrics(emailTaskExecutor.getThreadPoolExecutor(), Constants.EMAIL_TASK_EXECUTOR,
+                    Collections.emptyList()).bindTo(meterRegistry);
+            FunctionCounter.builder("executor.rejected", emailTasksRejected, LongAdder::doubleValue)
+                    .tag("name", Constants.EMAIL_TASK_EXECUTOR)
+                    .tag("policy", rejectionPolicy.name())
+                    .description("Tarefas de envio de email recusadas pelo executor")
+                    .register(meterRegistry);
+        };
+    }
+
+    private RejectedExecutionHandler rejectedExecutionHandler() {
+        switch (rejectionPolicy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+}
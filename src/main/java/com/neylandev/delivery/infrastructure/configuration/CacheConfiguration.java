@@ -0,0 +1,75 @@
+package com.neylandev.delivery.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.cache.BroadcastingCache;
+import com.neylandev.delivery.infrastructure.cache.BroadcastingCacheManager;
+import com.neylandev.delivery.infrastructure.cache.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@EnableCaching
+@Configuration
+public class CacheConfiguration {
+
+    @Value("${client.cache.maximum-size:10000}")
+    private long clientCacheMaximumSize;
+
+    @Value("${client.cache.expire-after-write:PT10M}")
+    private Duration clientCacheExpireAfterWrite;
+
+    @Value("${delivery.cache.maximum-size:10000}")
+    private long deliveryCacheMaximumSize;
+
+    @Value("${delivery.cache.expire-after-write:PT5M}")
+    private Duration deliveryCacheExpireAfterWrite;
+
+    @Value("${cache.invalidation.enabled:false}")
+    private boolean cacheInvalidationEnabled;
+
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationPublisher cacheInvalidationPublisher) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(clientCacheMaximumSize)
+                .expireAfterWrite(clientCacheExpireAfterWrite)
+                .recordStats());
+        cacheManager.setCacheNames(List.of(Constants.CLIENT_CACHE));
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(Constants.DELIVERY_CACHE, Caffeine.newBuilder()
+                .maximumSize(deliveryCacheMaximumSize)
+                .expireAfterWrite(deliveryCacheExpireAfterWrite)
+                .recordStats()
+                .build());
+        // put e evict só acontecem após o commit, evitando cachear um estado que ainda pode sofrer rollback
+        if (cacheInvalidationEnabled) {
+            return new TransactionAwareCacheManagerProxy(new BroadcastingCacheManager(cacheManager, cacheInvalidationPublisher));
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // mantém as métricas do Caffeine quando os caches estão decorados pelo BroadcastingCache
+    @Bean
+    public CacheMeterBinderProvider<BroadcastingCache> broadcastingCacheMeterBinderProvider() {
+        var caffeineCacheMeterBinderProvider = new CaffeineCacheMeterBinderProvider();
+        return new CacheMeterBinderProvider<>() {
+            @Override
+            public MeterBinder getMeterBinder(BroadcastingCache cache, Iterable<Tag> tags) {
+                return caffeineCacheMeterBinderProvider.getMeterBinder((CaffeineCache) cache.getTarget(), tags);
+            }
+        };
+    }
+}
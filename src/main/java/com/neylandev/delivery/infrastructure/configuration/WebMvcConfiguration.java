@@ -0,0 +1,40 @@
+package com.neylandev.delivery.infrastructure.configuration;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.metrics.QueryCountInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final QueryCountInterceptor queryCountInterceptor;
+    private final ThreadPoolTaskExecutor mvcTaskExecutor;
+    private final Duration asyncRequestTimeout;
+
+    public WebMvcConfiguration(QueryCountInterceptor queryCountInterceptor,
+                               @Qualifier(Constants.MVC_TASK_EXECUTOR) ThreadPoolTaskExecutor mvcTaskExecutor,
+                               @Value("${spring.mvc.async.request-timeout:10m}") Duration asyncRequestTimeout) {
+        this.queryCountInterceptor = queryCountInterceptor;
+        this.mvcTaskExecutor = mvcTaskExecutor;
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor);
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+}
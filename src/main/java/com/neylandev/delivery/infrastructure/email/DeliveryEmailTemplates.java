@@ -0,0 +1,82 @@
+package com.neylandev.delivery.infrastructure.email;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.model.Delivery;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// Os templates são compilados uma única vez na subida; cada email só executa o template já compilado
+@Component
+public class DeliveryEmailTemplates {
+
+    private static final List<DeliveryStatus> NOTIFIED_STATUSES = List.of(DeliveryStatus.FINALIZED, DeliveryStatus.CANCELLED);
+    private static final String LOCATION = "classpath:email-templates/%s/%s-%s.mustache";
+
+    private final Map<DeliveryStatus, CompiledTemplate> templates = new EnumMap<>(DeliveryStatus.class);
+
+    public DeliveryEmailTemplates(@Value("${delivery.email.template.locale:pt-BR}") Locale locale, ResourceLoader resourceLoader) {
+        // o assunto é texto puro, somente o corpo em HTML tem os valores escapados
+        var subjectCompiler = Mustache.compiler().escapeHTML(false).strictSections(true);
+        var bodyCompiler = Mustache.compiler().escapeHTML(true).strictSections(true);
+        for (DeliveryStatus deliveryStatus : NOTIFIED_STATUSES) {
+            var subject = compile(resourceLoader, subjectCompiler, deliveryStatus, locale, "subject");
+            var body = compile(resourceLoader, bodyCompiler, deliveryStatus, locale, "body");
+            if (subject.isEmpty() || body.isEmpty()) {
+                throw new IllegalStateException("Template de email ausente para " + deliveryStatus + " no idioma " + locale.toLanguageTag());
+            }
+            templates.put(deliveryStatus, new CompiledTemplate(subject.get(), body.get()));
+        }
+    }
+
+    public DeliveryEmailDto render(Delivery delivery) {
+        var template = Optional.ofNullable(templates.get(delivery.getDeliveryStatus()))
+                .orElseThrow(() -> new IllegalArgumentException("Não há email para entregas com status " + delivery.getDeliveryStatus()));
+        // um Map evita a resolução por reflexão das propriedades a cada execução; HashMap porque os nomes podem ser nulos
+        var context = new HashMap<String, Object>();
+        context.put("deliveryId", delivery.getId());
+        context.put("clientName", Optional.ofNullable(delivery.getClient().getName()).orElse(""));
+        context.put("recipientName", Optional.ofNullable(delivery.getRecipient().getName()).orElse(""));
+        return DeliveryEmailDto.builder()
+                .clientEmail(delivery.getClient().getEmail())
+                .subject(template.subject.execute(context))
+                .body(template.body.execute(context))
+                .build();
+    }
+
+    private Optional<Template> compile(ResourceLoader resourceLoader, Mustache.Compiler compiler, DeliveryStatus deliveryStatus,
+                                       Locale locale, String part) {
+        var resource = resourceLoader.getResource(String.format(LOCATION, locale.toLanguageTag(),
+                deliveryStatus.name().toLowerCase(Locale.ROOT), part));
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+        try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            return Optional.of(compiler.compile(reader));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CompiledTemplate {
+
+        private final Template subject;
+        private final Template body;
+    }
+}
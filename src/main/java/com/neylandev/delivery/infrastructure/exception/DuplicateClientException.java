@@ -0,0 +1,34 @@
+package com.neylandev.delivery.infrastructure.exception;
+
+import lombok.Getter;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Continua sendo uma violação de integridade: quem já trata a violação, como a idempotência, segue funcionando
+@Getter
+public class DuplicateClientException extends DataIntegrityViolationException {
+
+    private static final String EMAIL_CONSTRAINT = "uk_client_email";
+    private static final String TELEPHONE_CONSTRAINT = "uk_client_telephone";
+
+    private final String description;
+
+    private DuplicateClientException(String description, DataIntegrityViolationException cause) {
+        super(cause.getMessage(), cause);
+        this.description = description;
+    }
+
+    // o nome do índice aparece na mensagem do banco (MySQL e H2), então não há consulta extra para descobrir o campo
+    public static Optional<DuplicateClientException> of(DataIntegrityViolationException exception) {
+        var message = Optional.ofNullable(exception.getMostSpecificCause().getMessage()).orElse("").toLowerCase(Locale.ROOT);
+        if (message.contains(EMAIL_CONSTRAINT)) {
+            return Optional.of(new DuplicateClientException("[email:O email informado já está cadastrado]", exception));
+        }
+        if (message.contains(TELEPHONE_CONSTRAINT)) {
+            return Optional.of(new DuplicateClientException("[telephone:O telefone informado já está cadastrado]", exception));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.neylandev.delivery.infrastructure.exception;
+
+import com.neylandev.delivery.application.response.ErrorResponseDto;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// Precisa vir antes do handler do delivery-common, que trataria a exceção como uma violação de integridade qualquer
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DuplicateClientExceptionHandler {
+
+    private static final String MESSAGE = "Conflito com dados que já estão cadastrados";
+
+    @ExceptionHandler(DuplicateClientException.class)
+    public ResponseEntity<ErrorResponseDto> handle(DuplicateClientException duplicateClientException) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ErrorResponseDto.builder()
+                .message(MESSAGE)
+                .description(duplicateClientException.getDescription())
+                .build());
+    }
+}
@@ -0,0 +1,63 @@
+package com.neylandev.delivery.infrastructure.idempotency;
+
+import com.neylandev.delivery.domain.model.IdempotencyRecord;
+import com.neylandev.delivery.domain.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${idempotency.expire-after-write:PT24H}")
+    private Duration expireAfterWrite;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotentResponse> find(String idempotencyKey) {
+        return idempotencyRecordRepository.findById(idempotencyKey)
+                .filter(idempotencyRecord -> idempotencyRecord.getExpiresDate().isAfter(OffsetDateTime.now()))
+                .map(idempotencyRecord -> IdempotentResponse.builder()
+                        .fingerprint(idempotencyRecord.getFingerprint())
+                        .status(idempotencyRecord.getStatus())
+                        .body(idempotencyRecord.getBody())
+                        .build());
+    }
+
+    // a ação e o registro da chave são gravados na mesma transação: se outro nó gravar a mesma chave primeiro,
+    // a chave primária falha e a criação feita pela ação também é desfeita
+    @Override
+    @Transactional
+    public IdempotentResponse save(String idempotencyKey, Supplier<IdempotentResponse> action) {
+        var now = OffsetDateTime.now();
+        idempotencyRecordRepository.deleteExpired(idempotencyKey, now);
+        var idempotentResponse = action.get();
+        idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .fingerprint(idempotentResponse.getFingerprint())
+                .status(idempotentResponse.getStatus())
+                .body(idempotentResponse.getBody())
+                .createdDate(now)
+                .expiresDate(now.plus(expireAfterWrite))
+                .build());
+        return idempotentResponse;
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-delay:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        idempotencyRecordRepository.deleteExpired(OffsetDateTime.now());
+    }
+}
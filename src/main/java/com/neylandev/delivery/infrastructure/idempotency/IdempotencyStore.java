@@ -0,0 +1,11 @@
+package com.neylandev.delivery.infrastructure.idempotency;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface IdempotencyStore {
+
+    Optional<IdempotentResponse> find(String idempotencyKey);
+
+    IdempotentResponse save(String idempotencyKey, Supplier<IdempotentResponse> action);
+}
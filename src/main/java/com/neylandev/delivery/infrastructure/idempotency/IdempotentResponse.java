@@ -0,0 +1,13 @@
+package com.neylandev.delivery.infrastructure.idempotency;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class IdempotentResponse {
+
+    String fingerprint;
+    int status;
+    String body;
+}
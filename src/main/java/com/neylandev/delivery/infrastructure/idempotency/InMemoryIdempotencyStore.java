@@ -0,0 +1,60 @@
+package com.neylandev.delivery.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, CompletableFuture<IdempotentResponse>> responses;
+
+    public InMemoryIdempotencyStore(@Value("${idempotency.maximum-size:10000}") long maximumSize,
+                                    @Value("${idempotency.expire-after-write:PT24H}") Duration expireAfterWrite) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String idempotencyKey) {
+        return Optional.ofNullable(responses.getIfPresent(idempotencyKey)).map(this::await);
+    }
+
+    @Override
+    public IdempotentResponse save(String idempotencyKey, Supplier<IdempotentResponse> action) {
+        var response = new CompletableFuture<IdempotentResponse>();
+        var inFlight = responses.asMap().putIfAbsent(idempotencyKey, response);
+        if (inFlight != null) {
+            // outra requisição com a mesma chave está em execução, aguarda a resposta dela
+            return await(inFlight);
+        }
+        try {
+            var idempotentResponse = action.get();
+            response.complete(idempotentResponse);
+            return idempotentResponse;
+        } catch (RuntimeException e) {
+            responses.asMap().remove(idempotencyKey, response);
+            response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
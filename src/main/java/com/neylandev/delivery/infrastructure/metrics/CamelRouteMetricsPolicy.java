@@ -0,0 +1,36 @@
+package com.neylandev.delivery.infrastructure.metrics;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.camel.Exchange;
+import org.apache.camel.Route;
+import org.apache.camel.support.RoutePolicySupport;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CamelRouteMetricsPolicy extends RoutePolicySupport {
+
+    private static final String TIMER_SAMPLE = "CamelRouteMetricsTimerSample";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        exchange.setProperty(TIMER_SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        var sample = exchange.getProperty(TIMER_SAMPLE, Timer.Sample.class);
+        if (sample != null) {
+            sample.stop(Timer.builder(Constants.CAMEL_ROUTE_TIMER)
+                    .description("Tempo de processamento das mensagens nas rotas do Camel")
+                    .tag("routeId", route.getId())
+                    .tag("failed", Boolean.toString(exchange.isFailed()))
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.neylandev.delivery.infrastructure.metrics;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+import javax.sql.DataSource;
+
+// Conta as conexões emprestadas do pool pela thread da requisição; uma transação aberta sem nenhum comando SQL
+// não aparece no QueryCount, mas ainda ocupa uma conexão
+public class ConnectionCountListener implements MethodExecutionListener {
+
+    private static final ThreadLocal<Long> CONNECTIONS = ThreadLocal.withInitial(() -> 0L);
+
+    public static long get() {
+        return CONNECTIONS.get();
+    }
+
+    public static void clear() {
+        CONNECTIONS.remove();
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof DataSource && executionContext.getThrown() == null
+                && "getConnection".equals(executionContext.getMethod().getName())) {
+            CONNECTIONS.set(CONNECTIONS.get() + 1);
+        }
+    }
+}
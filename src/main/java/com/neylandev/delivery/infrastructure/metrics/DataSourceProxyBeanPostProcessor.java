@@ -0,0 +1,38 @@
+package com.neylandev.delivery.infrastructure.metrics;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+    @Value("${datasource.proxy.enabled:true}")
+    private boolean enabled;
+
+    @Value("${datasource.proxy.slow-query-threshold:PT0.5S}")
+    private Duration slowQueryThreshold;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        // substitui o spring.jpa.show-sql: o log de todas as queries só é formatado com o logger delivery.sql em DEBUG
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(Constants.DATA_SOURCE_NAME)
+                .countQuery()
+                .methodListener(new ConnectionCountListener())
+                .logQueryBySlf4j(SLF4JLogLevel.DEBUG, "delivery.sql")
+                .logSlowQueryBySlf4j(slowQueryThreshold.toMillis(), TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, "delivery.sql.slow")
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.neylandev.delivery.infrastructure.metrics;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountHolder.clear();
+        ConnectionCountListener.clear();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        var queryCount = Optional.ofNullable(QueryCountHolder.get(Constants.DATA_SOURCE_NAME)).orElseGet(QueryCount::new);
+        QueryCountHolder.clear();
+        request.setAttribute(Constants.QUERY_COUNT_ATTRIBUTE, queryCount);
+        request.setAttribute(Constants.CONNECTION_COUNT_ATTRIBUTE, ConnectionCountListener.get());
+        ConnectionCountListener.clear();
+        DistributionSummary.builder(Constants.QUERY_COUNT_SUMMARY)
+                .description("Quantidade de comandos SQL executados por requisição")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                        .map(Object::toString)
+                        .orElse("UNKNOWN"))
+                .register(meterRegistry)
+                .record(queryCount.getTotal());
+    }
+}
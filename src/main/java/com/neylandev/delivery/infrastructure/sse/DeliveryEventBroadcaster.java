@@ -0,0 +1,130 @@
+package com.neylandev.delivery.infrastructure.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.application.response.DeliveryEventResponseDto;
+import com.neylandev.delivery.domain.utils.Constants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class DeliveryEventBroadcaster implements MeterBinder {
+
+    private final Set<DeliveryEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    @Value("${delivery.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${delivery.events.overflow-policy:DROP_OLDEST}")
+    private DeliveryEventSubscriber.OverflowPolicy overflowPolicy;
+
+    @Value("${delivery.events.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${delivery.events.write-timeout:PT10S}")
+    private Duration writeTimeout;
+
+    public DeliveryEventBroadcaster(ObjectMapper objectMapper, @Qualifier(Constants.EVENT_TASK_EXECUTOR) Executor executor) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Long clientId) {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var subscriber = new DeliveryEventSubscriber(emitter, clientId, bufferSize, overflowPolicy, executor);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(throwable -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    private void unsubscribe(DeliveryEventSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(DeliveryEventResponseDto deliveryEventResponseDto) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        var message = new DeliveryEventMessage(sequence.incrementAndGet(), deliveryEventResponseDto.getType().name(),
+                deliveryEventResponseDto.getClientId(), toJson(deliveryEventResponseDto));
+        for (DeliveryEventSubscriber subscriber : subscribers) {
+            if (!subscriber.accepts(message)) {
+                continue;
+            }
+            switch (subscriber.offer(message)) {
+                case DROPPED:
+                    dropped.increment();
+                    break;
+                case DISCONNECTED:
+                    disconnected.increment();
+                    unsubscribe(subscriber);
+                    break;
+                default:
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.events.heartbeat-delay:30000}")
+    public void heartbeat() {
+        subscribers.forEach(DeliveryEventSubscriber::heartbeat);
+    }
+
+    // os eventos ainda no buffer de um assinante parado são contados como descartados por desconexão
+    @Scheduled(fixedDelayString = "${delivery.events.write-timeout-check-delay:1000}")
+    public void disconnectStalled() {
+        var now = System.nanoTime();
+        for (DeliveryEventSubscriber subscriber : subscribers) {
+            var buffered = subscriber.buffered();
+            if (subscriber.disconnectIfStalled(now, writeTimeout.toNanos())) {
+                disconnected.add(buffered);
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private String toJson(DeliveryEventResponseDto deliveryEventResponseDto) {
+        return objectMapper.writeValueAsString(deliveryEventResponseDto);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder(Constants.DELIVERY_EVENTS_SUBSCRIBERS, subscribers, Set::size)
+                .description("Conexões SSE inscritas nos eventos de entregas")
+                .register(meterRegistry);
+        FunctionCounter.builder(Constants.DELIVERY_EVENTS_DROPPED, dropped, LongAdder::doubleValue)
+                .tag("policy", overflowPolicy.name())
+                .tag("reason", "buffer-full")
+                .description("Eventos descartados porque o buffer do assinante estava cheio")
+                .register(meterRegistry);
+        FunctionCounter.builder(Constants.DELIVERY_EVENTS_DROPPED, disconnected, LongAdder::doubleValue)
+                .tag("policy", overflowPolicy.name())
+                .tag("reason", "disconnected")
+                .description("Eventos descartados porque o assinante foi desconectado por estar lento")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package com.neylandev.delivery.infrastructure.sse;
+
+import lombok.Value;
+
+// Evento já serializado uma única vez, compartilhado por todos os assinantes
+@Value
+class DeliveryEventMessage {
+
+    long id;
+    String name;
+    Long clientId;
+    String data;
+}
@@ -0,0 +1,164 @@
+package com.neylandev.delivery.infrastructure.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Cada assinante tem um buffer limitado; a escrita na conexão é feita por um executor compartilhado,
+// então uma conexão parada não segura thread e um cliente lento não atrasa quem publica os eventos.
+// Um send que passa do limite de escrita desconecta o assinante
+@RequiredArgsConstructor
+class DeliveryEventSubscriber {
+
+    enum OverflowPolicy {
+        DROP_OLDEST, DROP_NEWEST, DISCONNECT
+    }
+
+    enum Offer {
+        ACCEPTED, DROPPED, DISCONNECTED
+    }
+
+    @Getter
+    private final SseEmitter emitter;
+    private final Long clientId;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+
+    private final Deque<DeliveryEventMessage> buffer = new ArrayDeque<>();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private volatile long sendStartedNanos;
+    private volatile boolean stalled;
+    private volatile boolean closed;
+
+    boolean accepts(DeliveryEventMessage message) {
+        return clientId == null || clientId.equals(message.getClientId());
+    }
+
+    Offer offer(DeliveryEventMessage message) {
+        if (closed) {
+            return Offer.DISCONNECTED;
+        }
+        var offer = Offer.ACCEPTED;
+        synchronized (buffer) {
+            if (buffer.size() >= bufferSize) {
+                switch (overflowPolicy) {
+                    case DROP_NEWEST:
+                        return Offer.DROPPED;
+                    case DISCONNECT:
+                        closed = true;
+                        buffer.clear();
+                        emitter.complete();
+                        return Offer.DISCONNECTED;
+                    default:
+                        buffer.pollFirst();
+                        offer = Offer.DROPPED;
+                }
+            }
+            buffer.addLast(message);
+        }
+        scheduleWrite(this::drain);
+        return offer;
+    }
+
+    // só envia o heartbeat quando não há escrita em andamento, o que já mantém a conexão viva
+    void heartbeat() {
+        if (!closed) {
+            scheduleWrite(() -> send(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    // O SseEmitter segura o próprio monitor durante o send, então completar a conexão daqui bloquearia quem chama;
+    // o assinante para de receber eventos e a thread de escrita encerra a conexão quando o send retornar
+    boolean disconnectIfStalled(long nowNanos, long writeTimeoutNanos) {
+        var started = sendStartedNanos;
+        if (closed || started == 0 || nowNanos - started <= writeTimeoutNanos) {
+            return false;
+        }
+        stalled = true;
+        closed = true;
+        synchronized (buffer) {
+            buffer.clear();
+        }
+        return true;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    int buffered() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    private void drain() throws IOException {
+        DeliveryEventMessage message;
+        while (!closed && (message = poll()) != null) {
+            send(SseEmitter.event()
+                    .id(Long.toString(message.getId()))
+                    .name(message.getName())
+                    .data(message.getData(), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+        sendStartedNanos = System.nanoTime();
+        try {
+            emitter.send(event);
+        } finally {
+            sendStartedNanos = 0;
+        }
+    }
+
+    private DeliveryEventMessage poll() {
+        synchronized (buffer) {
+            return buffer.pollFirst();
+        }
+    }
+
+    private void scheduleWrite(Write write) {
+        if (!writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    write.run();
+                    if (stalled) {
+                        emitter.completeWithError(new TimeoutException("Escrita SSE excedeu o limite de tempo"));
+                    }
+                } catch (IOException | IllegalStateException exception) {
+                    closed = true;
+                    emitter.completeWithError(exception);
+                } finally {
+                    writing.set(false);
+                }
+                // um evento pode ter chegado entre o fim do drain e a liberação da escrita
+                if (!closed && buffered() > 0) {
+                    scheduleWrite(this::drain);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            // sem escrita em andamento o emitter está livre para ser encerrado aqui
+            writing.set(false);
+            closed = true;
+            emitter.completeWithError(exception);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+}
@@ -11,10 +11,14 @@ import com.neylandev.delivery.domain.model.Client;
 import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.model.Occurrence;
 import com.neylandev.delivery.domain.model.Recipient;
+import com.neylandev.delivery.infrastructure.email.DeliveryEmailTemplates;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class DataForTests{
 
@@ -41,7 +45,9 @@ public abstract class DataForTests{
     public final static String INVALID_NAME_WITH_FOUR_EQUALS_CHARACTERS_IN_SEQUENCE = "Teeee";
     public final static String INVALID_NAME_WITH_SPECIAL_CHARACTERS = "Teste2";
     public final static String INVALID_TELEPHONE = "739812132";
+    public final static Locale DEFAULT_EMAIL_LOCALE = Locale.forLanguageTag("pt-BR");
     private static final OffsetDateTime NOW = OffsetDateTime.now();
+    private static final AtomicLong CLIENT_SEQUENCE = new AtomicLong();
 
     public static Client clientValid() {
         return Client.builder()
@@ -69,6 +75,16 @@ public abstract class DataForTests{
                 .build();
     }
 
+    // email e telefone são únicos no banco, então cada cliente gravado nos testes de integração recebe os seus
+    public static ClientRequestDto uniqueClientRequestDtoValid() {
+        var sequence = CLIENT_SEQUENCE.incrementAndGet();
+        return ClientRequestDto.builder()
+                .email("teste" + sequence + "@teste.com")
+                .name(VALID_NAME)
+                .telephone(String.format("7398%07d", sequence))
+                .build();
+    }
+
 
     public static Delivery deliveryValid() {
         var delivery = Delivery.builder()
@@ -140,4 +156,8 @@ public abstract class DataForTests{
                 .id(VALID_OCCURRENCE_ID)
                 .build();
     }
+
+    public static DeliveryEmailTemplates deliveryEmailTemplates() {
+        return new DeliveryEmailTemplates(DEFAULT_EMAIL_LOCALE, new DefaultResourceLoader());
+    }
 }
@@ -0,0 +1,122 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.repository.ClientRepository;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.service.ClientService;
+import com.neylandev.delivery.domain.service.DeliveryCreationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static com.neylandev.delivery.DataForTests.INVALID_CLIENT_ID;
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ClientDeliveryControllerIntegrationTest extends BaseIntegrationTest {
+
+    private final static String URI = "/clients/{clientId}/deliveries";
+
+    private InitialDataForIntegrationTests initialDataForIntegrationTests;
+    private DeliveryCreationService deliveryCreationService;
+
+    @BeforeAll
+    public void init() {
+        ClientService clientService = webApplicationContext.getBean(ClientService.class);
+        deliveryCreationService = webApplicationContext.getBean(DeliveryCreationService.class);
+        DeliveryRepository deliveryRepository = webApplicationContext.getBean(DeliveryRepository.class);
+        ClientRepository clientRepository = webApplicationContext.getBean(ClientRepository.class);
+        initialDataForIntegrationTests = new InitialDataForIntegrationTests(clientService, clientRepository, deliveryCreationService, deliveryRepository);
+    }
+
+    @AfterEach
+    public void clean() {
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldReturnOnlyDeliveriesOfClient() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, deliveryResponseDto.getClientId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(deliveryResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].clientId").value(deliveryResponseDto.getClientId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnNextPageOfClientDeliveries_whenCursorWasPassed() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var olderDeliveryResponseDto = createDelivery(clientResponseDto.getId());
+        var newerDeliveryResponseDto = createDelivery(clientResponseDto.getId());
+
+        MvcResult firstPage = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, clientResponseDto.getId())
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(newerDeliveryResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").exists())
+                .andReturn();
+        var nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, clientResponseDto.getId())
+                        .param("size", "1")
+                        .param("cursor", nextCursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(olderDeliveryResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldFilterClientDeliveriesByStatus() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, deliveryResponseDto.getClientId())
+                        .param("deliveryStatus", DeliveryStatus.PENDING.name())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, deliveryResponseDto.getClientId())
+                        .param("deliveryStatus", DeliveryStatus.FINALIZED.name())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenClientWasNotFound() throws Exception {
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, INVALID_CLIENT_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(DataForBusinessException.CLIENT_NOT_FOUND.getMessage()));
+    }
+
+    private DeliveryResponseDto createDelivery(Long clientId) {
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(clientId);
+        return deliveryCreationService.save(deliveryRequestDto);
+    }
+}
@@ -0,0 +1,112 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.domain.repository.ClientRepository;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.repository.IdempotencyRecordRepository;
+import com.neylandev.delivery.domain.service.ClientService;
+import com.neylandev.delivery.domain.service.DeliveryCreationService;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestPropertySource(
+        properties = {
+                "idempotency.store=database"
+        }
+)
+class DatabaseIdempotencyStoreIntegrationTest extends BaseIntegrationTest {
+
+    private InitialDataForIntegrationTests initialDataForIntegrationTests;
+    private ClientRepository clientRepository;
+    private DeliveryRepository deliveryRepository;
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @BeforeAll
+    public void init() {
+        ClientService clientService = webApplicationContext.getBean(ClientService.class);
+        DeliveryCreationService deliveryCreationService = webApplicationContext.getBean(DeliveryCreationService.class);
+        clientRepository = webApplicationContext.getBean(ClientRepository.class);
+        deliveryRepository = webApplicationContext.getBean(DeliveryRepository.class);
+        idempotencyRecordRepository = webApplicationContext.getBean(IdempotencyRecordRepository.class);
+        initialDataForIntegrationTests = new InitialDataForIntegrationTests(clientService, clientRepository, deliveryCreationService, deliveryRepository);
+    }
+
+    @AfterEach
+    public void clean() {
+        idempotencyRecordRepository.deleteAll();
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldCreateASingleClient_whenTheSameIdempotencyKeyWasSentConcurrently() throws Exception {
+        var idempotencyKey = UUID.randomUUID().toString();
+        var body = objectMapper.writeValueAsBytes(uniqueClientRequestDtoValid());
+
+        int threads = 8;
+        var executorService = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var responses = new ArrayList<Future<MockHttpServletResponse>>();
+        for (int i = 0; i < threads; i++) {
+            responses.add(executorService.submit(() -> {
+                start.await();
+                return this.mockMvc
+                        .perform(MockMvcRequestBuilders.post("/clients")
+                                .header(Constants.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse();
+            }));
+        }
+        start.countDown();
+
+        var clientIds = new HashSet<Long>();
+        for (Future<MockHttpServletResponse> response : responses) {
+            var mockHttpServletResponse = response.get(30, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.CREATED.value(), mockHttpServletResponse.getStatus(), mockHttpServletResponse.getContentAsString());
+            clientIds.add(objectMapper.readTree(mockHttpServletResponse.getContentAsString()).get("id").asLong());
+        }
+        executorService.shutdown();
+
+        assertEquals(1, clientIds.size());
+        assertEquals(1, clientRepository.count());
+        assertEquals(1, idempotencyRecordRepository.count());
+    }
+
+    @Test
+    void shouldReplayCreatedDelivery_whenIdempotencyKeyWasRepeated() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(clientResponseDto.getId());
+        var idempotencyKey = UUID.randomUUID().toString();
+
+        for (int i = 0; i < 3; i++) {
+            this.mockMvc
+                    .perform(MockMvcRequestBuilders.post("/deliveries")
+                            .header(Constants.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(deliveryRequestDto)))
+                    .andReturn();
+        }
+
+        assertEquals(1, deliveryRepository.count());
+        assertEquals(1, idempotencyRecordRepository.count());
+    }
+}
@@ -1,9 +1,12 @@
 package com.neylandev.delivery.application.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.application.request.DeliveryIdsRequestDto;
 import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import com.neylandev.delivery.application.response.DeliveryTransitionResponseDto;
 import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.enums.DeliveryExportFormat;
 import com.neylandev.delivery.domain.repository.ClientRepository;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
 import com.neylandev.delivery.domain.service.ClientService;
@@ -16,10 +19,21 @@ import org.apache.camel.test.spring.junit5.UseAdviceWith;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static com.neylandev.delivery.DataForTests.INVALID_DELIVERY_ID;
 import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
 import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_COMPLEMENT;
@@ -28,9 +42,17 @@ import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_NEIGHBORHOOD;
 import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_NUMBER;
 import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_STREET;
 import static com.neylandev.delivery.DataForTests.VALID_TAX;
-import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
 import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @MockEndpoints
@@ -56,6 +78,47 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
         initialDataForIntegrationTests = new InitialDataForIntegrationTests(clientService, clientRepository, deliveryCreationService, deliveryRepository);
     }
 
+    @Test
+    void shouldStreamOnlyEventsOfClient_whenSubscribedToDeliveryEventsWithClientId() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var subscription = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/events")
+                        .param("clientId", clientResponseDto.getId().toString())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var otherClientDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(clientResponseDto.getId());
+        var created = this.mockMvc
+                .perform(MockMvcRequestBuilders.post(URI)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deliveryRequestDto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var deliveryId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        var events = awaitContent(subscription, "\"deliveryId\":" + deliveryId);
+        assertTrue(events.contains("event:CREATED"));
+        assertTrue(events.contains("\"clientId\":" + clientResponseDto.getId()));
+        assertFalse(events.contains("\"deliveryId\":" + otherClientDeliveryResponseDto.getId() + ","));
+
+        subscription.getRequest().getAsyncContext().complete();
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    private String awaitContent(MvcResult mvcResult, String expected) throws Exception {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        var content = mvcResult.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = mvcResult.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
     @Test
     void shouldReturnAllDeliveries() throws Exception {
         var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
@@ -64,7 +127,139 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
                 .perform(MockMvcRequestBuilders.get(URI)
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(print()).andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(deliveryResponseDto.getId()));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(deliveryResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldReturnNextPageOfDeliveries_whenCursorWasPassed() throws Exception {
+        var olderDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var newerDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        var firstPage = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI)
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(newerDeliveryResponseDto.getId()))
+                .andReturn();
+
+        var nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI)
+                        .param("size", "1")
+                        .param("cursor", nextCursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(olderDeliveryResponseDto.getId()));
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldReturnFilteredDeliveries_whenDeliveryStatusAndClientIdWerePassed() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI)
+                        .param("deliveryStatus", "PENDING")
+                        .param("clientId", deliveryResponseDto.getClientId().toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(deliveryResponseDto.getId()));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI)
+                        .param("deliveryStatus", "FINALIZED")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content").isEmpty());
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenInvalidCursorWasPassed() throws Exception {
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI)
+                        .param("cursor", "invalid")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(DataForBusinessException.INVALID_INPUT.getMessage()));
+
+    }
+
+    @Test
+    void shouldSaveDeliveriesAndReturnResultPerItem_whenBatchWasPassed() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(deliveryResponseDto.getClientId());
+        var invalidDeliveryRequestDto = deliveryRequestDtoValid();
+        invalidDeliveryRequestDto.setRecipientName(null);
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.post(URI + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of(deliveryRequestDto, invalidDeliveryRequestDto))))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].status").value(201))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].delivery.clientId").value(deliveryResponseDto.getClientId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].message").value(DataForBusinessException.INVALID_INPUT.getMessage()));
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldStreamDeliveriesAsNdjson_whenExportWasCalled() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        var mvcResult = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/export")
+                        .param("deliveryStatus", "PENDING"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var content = this.mockMvc
+                .perform(asyncDispatch(mvcResult))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, DeliveryExportFormat.NDJSON.getContentType()))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = content.split("\n");
+        assertEquals(1, lines.length);
+        assertEquals(deliveryResponseDto.getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldStreamDeliveriesAsCsv_whenExportWithCsvFormatWasCalled() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        var mvcResult = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/export")
+                        .param("format", DeliveryExportFormat.CSV.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var content = this.mockMvc
+                .perform(asyncDispatch(mvcResult))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"deliveries.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith(deliveryResponseDto.getId() + "," + deliveryResponseDto.getClientId() + ","));
 
         initialDataForIntegrationTests.deleteDelivery();
     }
@@ -96,7 +291,7 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
 
     @Test
     void shouldSaveDeliveryAndReturnDeliveryResponse_whenDeliveryRequestDtoValidWasPassed() throws Exception {
-        var client = initialDataForIntegrationTests.createClient(clientRequestDtoValid());
+        var client = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
 
         DeliveryRequestDto deliveryRequestDto = deliveryRequestDtoValid();
         deliveryRequestDto.setClientId(client.getId());
@@ -252,7 +447,7 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
         var deliveryEmailDto = DeliveryEmailDto.builder()
                 .clientEmail(deliveryResponseDto.getClientEmail())
                 .subject("Produto recebido com sucesso")
-                .body(String.format("O produto de %s foi recebido por %s", deliveryResponseDto.getClientName(), deliveryResponseDto.getRecipientName()))
+                .body(String.format("<p>O produto de %s foi recebido por %s</p>", deliveryResponseDto.getClientName(), deliveryResponseDto.getRecipientName()))
                 .build();
 
         deliverySendEmailMockEndpoint.reset();
@@ -278,7 +473,7 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
         var deliveryEmailDto = DeliveryEmailDto.builder()
                 .clientEmail(deliveryResponseDto.getClientEmail())
                 .subject("O envio do produto foi cancelado")
-                .body(String.format("O produto de %s não pode ser enviado", deliveryResponseDto.getClientName()))
+                .body(String.format("<p>O produto de %s não pode ser enviado</p>", deliveryResponseDto.getClientName()))
                 .build();
 
         deliverySendEmailMockEndpoint.reset();
@@ -295,6 +490,127 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
         initialDataForIntegrationTests.deleteDelivery();
     }
 
+    @Test
+    void shouldCompleteDeliveryAndSendEmail_whenRenderedBodyIsLongerThanAVarchar() throws Exception {
+        camelContext.start();
+
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setRecipientName("R".repeat(250));
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDto);
+
+        var deliveryEmailDto = DeliveryEmailDto.builder()
+                .clientEmail(deliveryResponseDto.getClientEmail())
+                .subject("Produto recebido com sucesso")
+                .body(String.format("<p>O produto de %s foi recebido por %s</p>", deliveryResponseDto.getClientName(), deliveryResponseDto.getRecipientName()))
+                .build();
+        assertTrue(deliveryEmailDto.getBody().length() > 255);
+
+        deliverySendEmailMockEndpoint.reset();
+        deliverySendEmailMockEndpoint.expectedMessageCount(1);
+        deliverySendEmailMockEndpoint.expectedBodiesReceived(new ObjectMapper().writeValueAsString(deliveryEmailDto));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/{deliveryId}/complete", deliveryResponseDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isNoContent());
+
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldReturnNotModified_whenDeliveryETagStillMatches() throws Exception {
+        camelContext.start();
+
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        var eTag = this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", deliveryResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", deliveryResponseDto.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        deliverySendEmailMockEndpoint.reset();
+        deliverySendEmailMockEndpoint.expectedMessageCount(1);
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/{deliveryId}/cancel", deliveryResponseDto.getId()))
+                .andExpect(status().isNoContent());
+
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", deliveryResponseDto.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(result -> assertEquals(1, result.getResponse().getHeaders(HttpHeaders.ETAG).size()))
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deliveryStatus").value("CANCELLED"));
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenDeliveryIdNotFoundWasPassedWithIfNoneMatch() throws Exception {
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", INVALID_DELIVERY_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(DataForBusinessException.DELIVERY_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    void shouldTransitionDeliveryOnlyOnceAndSendASingleEmail_whenCompleteAndCancelWereCalledConcurrently() throws Exception {
+        camelContext.start();
+
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        deliverySendEmailMockEndpoint.reset();
+        deliverySendEmailMockEndpoint.expectedMessageCount(1);
+        deliverySendEmailMockEndpoint.setAssertPeriod(500);
+
+        int threads = 16;
+        var executorService = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var responses = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < threads; i++) {
+            var transition = i % 2 == 0 ? "/{deliveryId}/complete" : "/{deliveryId}/cancel";
+            responses.add(executorService.submit(() -> {
+                start.await();
+                return this.mockMvc
+                        .perform(MockMvcRequestBuilders.put(URI + transition, deliveryResponseDto.getId())
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+
+        var statuses = new ArrayList<Integer>();
+        for (Future<Integer> response : responses) {
+            statuses.add(response.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        assertEquals(1, Collections.frequency(statuses, HttpStatus.NO_CONTENT.value()));
+        assertEquals(threads - 1, Collections.frequency(statuses, HttpStatus.CONFLICT.value()));
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
     @Test
     void shouldThrowBusinessException_whenDeliveryIdNotFoundWasPassedAndCompleteWasCalled() throws Exception {
 
@@ -317,4 +633,169 @@ class DeliveryControllerIntegrationTest extends BaseIntegrationTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldCompleteDeliveriesAndSendEmails_whenBulkCompleteWasCalled() throws Exception {
+        camelContext.start();
+
+        var firstDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var secondDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        deliverySendEmailMockEndpoint.reset();
+        deliverySendEmailMockEndpoint.expectedMessageCount(2);
+
+        var deliveryIdsRequestDto = DeliveryIdsRequestDto.builder()
+                .deliveryIds(List.of(firstDeliveryResponseDto.getId(), INVALID_DELIVERY_ID, secondDeliveryResponseDto.getId()))
+                .build();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/complete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deliveryIdsRequestDto)))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.succeeded").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].status").value(204))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].deliveryId").value(INVALID_DELIVERY_ID))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].message").value(DataForBusinessException.DELIVERY_NOT_FOUND.getMessage()));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deliveryIdsRequestDto)))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.succeeded").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].message").value(DataForBusinessException.DELIVERY_CANNOT_BE_CANCELED.getMessage()));
+
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldTransitionEachDeliveryOnlyOnce_whenOverlappingBulkCompletesWereCalledConcurrently() throws Exception {
+        camelContext.start();
+
+        var deliveryIds = new ArrayList<Long>();
+        for (int i = 0; i < 3; i++) {
+            deliveryIds.add(initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid()).getId());
+        }
+
+        deliverySendEmailMockEndpoint.reset();
+        deliverySendEmailMockEndpoint.expectedMessageCount(deliveryIds.size());
+        deliverySendEmailMockEndpoint.setAssertPeriod(500);
+
+        int threads = 16;
+        var executorService = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var responses = new ArrayList<Future<DeliveryTransitionResponseDto>>();
+        for (int i = 0; i < threads; i++) {
+            // cada requisição envia os ids em outra ordem e algumas só parte deles, para que os lotes se sobreponham
+            var requestIds = new ArrayList<>(deliveryIds);
+            Collections.rotate(requestIds, i);
+            var deliveryIdsRequestDto = DeliveryIdsRequestDto.builder()
+                    .deliveryIds(i % 4 == 3 ? requestIds.subList(0, 2) : requestIds)
+                    .build();
+            responses.add(executorService.submit(() -> {
+                start.await();
+                var content = this.mockMvc
+                        .perform(MockMvcRequestBuilders.put(URI + "/complete")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsBytes(deliveryIdsRequestDto)))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsByteArray();
+                return objectMapper.readValue(content, DeliveryTransitionResponseDto.class);
+            }));
+        }
+        start.countDown();
+
+        var transitionedIds = new ArrayList<Long>();
+        for (Future<DeliveryTransitionResponseDto> response : responses) {
+            response.get(30, TimeUnit.SECONDS).getResults().stream()
+                    .filter(result -> result.getStatus() == HttpStatus.NO_CONTENT.value())
+                    .forEach(result -> transitionedIds.add(result.getDeliveryId()));
+        }
+        executorService.shutdown();
+
+        assertEquals(deliveryIds.size(), transitionedIds.size());
+        assertTrue(transitionedIds.containsAll(deliveryIds));
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenBulkCompleteWasCalledWithoutIds() throws Exception {
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/complete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new DeliveryIdsRequestDto())))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(DataForBusinessException.INVALID_INPUT.getMessage()));
+
+    }
+
+    @Test
+    void shouldNotServeCachedStatus_whenDeliveryWasCompletedAfterBeingRead() throws Exception {
+        camelContext.start();
+
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", deliveryResponseDto.getId()))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deliveryStatus").value("PENDING"));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/{deliveryId}/complete", deliveryResponseDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/{deliveryId}", deliveryResponseDto.getId()))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deliveryStatus").value("FINALIZED"));
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldUpdateDeliveryStats_whenDeliveryWasCreatedAndCompleted() throws Exception {
+        camelContext.start();
+
+        var before = objectMapper.readTree(this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put(URI + "/{deliveryId}/complete", deliveryResponseDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        var after = objectMapper.readTree(this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/stats"))
+                .andDo(print()).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        assertEquals(before.at("/deliveriesByStatus/PENDING").asLong(), after.at("/deliveriesByStatus/PENDING").asLong());
+        assertEquals(before.at("/deliveriesByStatus/FINALIZED").asLong() + 1, after.at("/deliveriesByStatus/FINALIZED").asLong());
+        assertTrue(after.get("dailyStats").size() > 0);
+
+        initialDataForIntegrationTests.deleteDelivery();
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenDeliveryStatsPeriodWasInvalid() throws Exception {
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI + "/stats")
+                        .param("from", "2022-07-31")
+                        .param("to", "2022-07-01"))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value(DataForBusinessException.INVALID_INPUT.getMessage()));
+
+    }
+
+}
@@ -14,8 +14,8 @@ import com.neylandev.delivery.domain.service.DeliveryCreationService;
 import com.neylandev.delivery.domain.service.OccurrenceService;
 
 import static com.neylandev.delivery.DataForTests.VALID_DESCRIPTION;
-import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
 import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
 
 public class InitialDataForIntegrationTests {
     
@@ -51,6 +51,10 @@ public class InitialDataForIntegrationTests {
         return occurrenceService.registerOccurrence(deliveryResponseDto.getId(), VALID_DESCRIPTION);
     }
 
+    public OccurrenceResponseDto registerOccurrence(Long deliveryId, OccurrenceRequestDto occurrenceRequestDto) {
+        return occurrenceService.registerOccurrence(deliveryId, occurrenceRequestDto.getDescription());
+    }
+
     public void deleteOccurrence() {
         occurrenceRepository.deleteAll();
         deliveryRepository.deleteAll();
@@ -58,7 +62,7 @@ public class InitialDataForIntegrationTests {
     }
 
     public DeliveryResponseDto createDelivery(DeliveryRequestDto deliveryRequestDto) {
-        var clientResponseDto = createClient(clientRequestDtoValid());
+        var clientResponseDto = createClient(uniqueClientRequestDtoValid());
         deliveryRequestDto.setClientId(clientResponseDto.getId());
         return deliveryCreationService.save(deliveryRequestDto);
     }
@@ -0,0 +1,59 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_EMAIL;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMetrics
+@TestPropertySource(
+        properties = {
+                "management.endpoints.web.exposure.include=prometheus",
+                "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+                "spring.jpa.properties.hibernate.generate_statistics=true"
+        }
+)
+class MetricsIntegrationTest extends BaseIntegrationTest {
+
+    @Produce(Constants.DIRECT_SEND_EMAIL)
+    ProducerTemplate producerTemplate;
+
+    @Autowired
+    MockMvc filteredMockMvc;
+
+    @Test
+    void shouldExposeEndpointServiceRouteHibernateMetricsInPrometheusFormat() throws Exception {
+        this.filteredMockMvc
+                .perform(MockMvcRequestBuilders.post("/clients")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(uniqueClientRequestDtoValid())))
+                .andExpect(status().isCreated());
+        this.filteredMockMvc
+                .perform(MockMvcRequestBuilders.get("/clients")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        producerTemplate.sendBody(DeliveryEmailDto.builder().clientEmail(VALID_CLIENT_EMAIL).subject("Teste").body("Teste").build());
+
+        this.filteredMockMvc
+                .perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{exception=\"None\",method=\"GET\"")))
+                .andExpect(content().string(containsString("uri=\"/clients\"")))
+                .andExpect(content().string(containsString("delivery_service_seconds_count{class=\"ClientService\",exception=\"none\",method=\"findAll\"")))
+                .andExpect(content().string(containsString("camel_route_seconds_count{failed=\"false\",routeId=\"" + Constants.DIRECT_SEND_EMAIL + "\"")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+}
@@ -48,7 +48,38 @@ class OccurrenceControllerIntegrationTest extends BaseIntegrationTest {
                 .perform(MockMvcRequestBuilders.get(URI, occurrenceResponseDto.getDeliveryId())
                         .accept(MediaType.APPLICATION_JSON))
                 .andDo(print()).andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(occurrenceResponseDto.getId()));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(occurrenceResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].deliveryId").value(occurrenceResponseDto.getDeliveryId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false));
+
+        initialDataForIntegrationTests.deleteOccurrence();
+
+    }
+
+    @Test
+    void shouldReturnNextPageOfOccurrencesFromDelivery_whenPageAndSizeWerePassed() throws Exception {
+
+        OccurrenceResponseDto occurrenceResponseDto = initialDataForIntegrationTests.createOccurrence(occurrenceRequestDtoValid());
+        OccurrenceResponseDto secondOccurrenceResponseDto = initialDataForIntegrationTests
+                .registerOccurrence(occurrenceResponseDto.getDeliveryId(), occurrenceRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, occurrenceResponseDto.getDeliveryId())
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(occurrenceResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get(URI, occurrenceResponseDto.getDeliveryId())
+                        .param("page", "1")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(secondOccurrenceResponseDto.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false));
 
         initialDataForIntegrationTests.deleteOccurrence();
 
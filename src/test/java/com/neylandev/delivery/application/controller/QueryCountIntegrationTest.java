@@ -0,0 +1,298 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.application.request.DeliveryIdsRequestDto;
+import com.neylandev.delivery.domain.repository.ClientRepository;
+import com.neylandev.delivery.domain.repository.DeliveryEmailOutboxRepository;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.repository.OccurrenceRepository;
+import com.neylandev.delivery.domain.service.ClientService;
+import com.neylandev.delivery.domain.service.DeliveryCreationService;
+import com.neylandev.delivery.domain.service.OccurrenceService;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.occurrenceRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.uniqueClientRequestDtoValid;
+import static com.neylandev.delivery.application.controller.QueryCountResultMatchers.connections;
+import static com.neylandev.delivery.application.controller.QueryCountResultMatchers.inserts;
+import static com.neylandev.delivery.application.controller.QueryCountResultMatchers.selects;
+import static com.neylandev.delivery.application.controller.QueryCountResultMatchers.statements;
+import static com.neylandev.delivery.application.controller.QueryCountResultMatchers.updates;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryCountIntegrationTest extends BaseIntegrationTest {
+
+    private static final int DELIVERY_BATCH_SIZE = 10;
+
+    private InitialDataForIntegrationTests initialDataForIntegrationTests;
+    private DeliveryEmailOutboxRepository deliveryEmailOutboxRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public void init() {
+        OccurrenceService occurrenceService = webApplicationContext.getBean(OccurrenceService.class);
+        ClientService clientService = webApplicationContext.getBean(ClientService.class);
+        DeliveryCreationService deliveryCreationService = webApplicationContext.getBean(DeliveryCreationService.class);
+        OccurrenceRepository occurrenceRepository = webApplicationContext.getBean(OccurrenceRepository.class);
+        DeliveryRepository deliveryRepository = webApplicationContext.getBean(DeliveryRepository.class);
+        ClientRepository clientRepository = webApplicationContext.getBean(ClientRepository.class);
+        deliveryEmailOutboxRepository = webApplicationContext.getBean(DeliveryEmailOutboxRepository.class);
+        jdbcTemplate = webApplicationContext.getBean(JdbcTemplate.class);
+        initialDataForIntegrationTests = new InitialDataForIntegrationTests(clientService, clientRepository, deliveryCreationService, deliveryRepository, occurrenceService, occurrenceRepository);
+    }
+
+    @AfterEach
+    public void clean() {
+        deliveryEmailOutboxRepository.deleteAll();
+        initialDataForIntegrationTests.deleteOccurrence();
+    }
+
+    @Test
+    void shouldListClientsWithASingleSelect() throws Exception {
+        initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(selects(1));
+    }
+
+    @Test
+    void shouldSearchClientsWithASingleSelect() throws Exception {
+        initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/search")
+                        .param("name", "Teste")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(selects(1));
+    }
+
+    @Test
+    void shouldFindClientWithASingleSelectAndServeTheNextRequestFromTheCache() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/{clientId}", clientResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/{clientId}", clientResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(0))
+                .andExpect(connections(0));
+    }
+
+    @Test
+    void shouldAnswerConditionalClientRequestWithoutBorrowingAConnection() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var eTag = this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/{clientId}", clientResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/{clientId}", clientResponseDto.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(statements(0))
+                .andExpect(connections(0));
+    }
+
+    @Test
+    void shouldCreateClientWithASingleInsert() throws Exception {
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.post("/clients")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(uniqueClientRequestDtoValid())))
+                .andExpect(status().isCreated())
+                .andExpect(statements(1))
+                .andExpect(selects(0))
+                .andExpect(inserts(1));
+    }
+
+    @Test
+    void shouldCreateDeliveryWithOneSelectAndConstantStatsStatements() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(clientResponseDto.getId());
+
+        var nextDeliveryId = nextDeliveryId();
+
+        var result = this.mockMvc
+                .perform(MockMvcRequestBuilders.post("/deliveries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deliveryRequestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(inserts(2))
+                .andReturn();
+
+        var reservedIdBlocks = reservedIdBlocks(nextDeliveryId);
+        statements(5 + 2 * reservedIdBlocks).match(result);
+        selects(1 + reservedIdBlocks).match(result);
+        updates(2 + reservedIdBlocks).match(result);
+    }
+
+    @Test
+    void shouldCreateDeliveryBatchWithTheSameStatementsAsASingleDelivery() throws Exception {
+        var clientResponseDto = initialDataForIntegrationTests.createClient(uniqueClientRequestDtoValid());
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setClientId(clientResponseDto.getId());
+        var nextDeliveryId = nextDeliveryId();
+
+        // um select do cliente, um insert em lote das entregas e outro dos contadores de ocorrências, e os dois
+        // updates das estatísticas; cada bloco de ids reservado acrescenta o select for update e o update do gerador
+        var result = this.mockMvc
+                .perform(MockMvcRequestBuilders.post("/deliveries/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(Collections.nCopies(DELIVERY_BATCH_SIZE, deliveryRequestDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(DELIVERY_BATCH_SIZE))
+                .andExpect(inserts(2))
+                .andReturn();
+
+        var reservedIdBlocks = reservedIdBlocks(nextDeliveryId);
+        statements(5 + 2 * reservedIdBlocks).match(result);
+        selects(1 + reservedIdBlocks).match(result);
+        updates(2 + reservedIdBlocks).match(result);
+    }
+
+    @Test
+    void shouldListDeliveriesWithASingleSelectRegardlessOfPageSize() throws Exception {
+        initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/deliveries")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void shouldListClientDeliveriesWithASingleSelect() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/clients/{clientId}/deliveries", deliveryResponseDto.getClientId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void shouldFindDeliveryWithASingleSelect() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/deliveries/{deliveryId}", deliveryResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void shouldAnswerConditionalDeliveryRequestFromTheCache() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var eTag = this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/deliveries/{deliveryId}", deliveryResponseDto.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/deliveries/{deliveryId}", deliveryResponseDto.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(statements(0))
+                .andExpect(connections(0));
+    }
+
+    @Test
+    void shouldCompleteDeliveryWithoutLoadingItsOccurrences() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put("/deliveries/{deliveryId}/complete", deliveryResponseDto.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(selects(1))
+                .andExpect(updates(3))
+                .andExpect(inserts(1));
+    }
+
+    @Test
+    void shouldCompleteDeliveriesInBulkWithALockingSelectAndASingleUpdateOfTheDeliveries() throws Exception {
+        var firstDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var secondDeliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+        var deliveryIdsRequestDto = DeliveryIdsRequestDto.builder()
+                .deliveryIds(List.of(firstDeliveryResponseDto.getId(), secondDeliveryResponseDto.getId()))
+                .build();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.put("/deliveries/complete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(deliveryIdsRequestDto)))
+                .andExpect(status().isOk())
+                .andExpect(selects(1))
+                .andExpect(updates(3))
+                .andExpect(inserts(2));
+    }
+
+    @Test
+    void shouldListOccurrencesWithAnExistenceCheckAndASingleSelect() throws Exception {
+        var occurrenceResponseDto = initialDataForIntegrationTests.createOccurrence(occurrenceRequestDtoValid());
+        initialDataForIntegrationTests.registerOccurrence(occurrenceResponseDto.getDeliveryId(), occurrenceRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/deliveries/{deliveryId}/occurrences", occurrenceResponseDto.getDeliveryId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(statements(2))
+                .andExpect(selects(2));
+    }
+
+    @Test
+    void shouldRegisterOccurrenceWithASingleInsert() throws Exception {
+        var deliveryResponseDto = initialDataForIntegrationTests.createDelivery(deliveryRequestDtoValid());
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.post("/deliveries/{deliveryId}/occurrences", deliveryResponseDto.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(occurrenceRequestDtoValid())))
+                .andExpect(status().isCreated())
+                .andExpect(inserts(1));
+    }
+
+    private long nextDeliveryId() {
+        return jdbcTemplate.queryForObject("select next_val from delivery_id_seq where sequence_name = ?",
+                Long.class, Constants.DELIVERY_ID_SEQUENCE);
+    }
+
+    // o gerador guarda ids em memória; a requisição só vai à tabela quando o bloco atual acaba
+    private long reservedIdBlocks(long nextDeliveryIdBefore) {
+        return (nextDeliveryId() - nextDeliveryIdBefore) / Constants.DELIVERY_ID_ALLOCATION_SIZE;
+    }
+}
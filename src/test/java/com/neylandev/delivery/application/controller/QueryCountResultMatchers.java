@@ -0,0 +1,50 @@
+package com.neylandev.delivery.application.controller;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.ttddyy.dsproxy.QueryCount;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.ToLongFunction;
+
+import static org.springframework.test.util.AssertionErrors.assertEquals;
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueryCountResultMatchers {
+
+    public static ResultMatcher statements(long expected) {
+        return queryCount("Total statements", expected, QueryCount::getTotal);
+    }
+
+    public static ResultMatcher selects(long expected) {
+        return queryCount("Select statements", expected, QueryCount::getSelect);
+    }
+
+    public static ResultMatcher inserts(long expected) {
+        return queryCount("Insert statements", expected, QueryCount::getInsert);
+    }
+
+    public static ResultMatcher updates(long expected) {
+        return queryCount("Update statements", expected, QueryCount::getUpdate);
+    }
+
+    public static ResultMatcher connections(long expected) {
+        return result -> {
+            var connections = (Long) result.getRequest().getAttribute(Constants.CONNECTION_COUNT_ATTRIBUTE);
+            assertNotNull("Connection count was not recorded for " + result.getRequest().getRequestURI(), connections);
+            assertEquals("Borrowed connections of " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(),
+                    expected, connections);
+        };
+    }
+
+    private static ResultMatcher queryCount(String message, long expected, ToLongFunction<QueryCount> counter) {
+        return result -> {
+            var queryCount = (QueryCount) result.getRequest().getAttribute(Constants.QUERY_COUNT_ATTRIBUTE);
+            assertNotNull("Query count was not recorded for " + result.getRequest().getRequestURI(), queryCount);
+            assertEquals(message + " of " + result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(),
+                    expected, counter.applyAsLong(queryCount));
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.neylandev.delivery.application.route;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import com.neylandev.delivery.domain.producer.DeliveryEmailOutboxRelay;
+import com.neylandev.delivery.domain.repository.DeliveryEmailOutboxRepository;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@CamelSpringBootTest
+@TestPropertySource(
+        properties = {
+                "to.delivery.email=mock:send.email",
+                "delivery.email.batch.enabled=true",
+                "delivery.email.batch.size=" + RabbitMQRouteBuilderBatchIntegrationTest.BATCH_SIZE,
+                "delivery.email.outbox.batch-size=" + RabbitMQRouteBuilderBatchIntegrationTest.EMAILS,
+                "delivery.email.outbox.relay-delay=3600000"
+        }
+)
+class RabbitMQRouteBuilderBatchIntegrationTest {
+
+    static final int BATCH_SIZE = 50;
+    static final int EMAILS = 200;
+
+    @Autowired
+    DeliveryEmailOutboxRelay deliveryEmailOutboxRelay;
+
+    @Autowired
+    DeliveryEmailOutboxRepository deliveryEmailOutboxRepository;
+
+    @EndpointInject("mock:send.email")
+    MockEndpoint deliverySendEmailMockEndpoint;
+
+    @BeforeEach
+    void setup() {
+        deliverySendEmailMockEndpoint.reset();
+        deliveryEmailOutboxRepository.deleteAll();
+        var now = OffsetDateTime.now();
+        deliveryEmailOutboxRepository.saveAll(IntStream.range(0, EMAILS)
+                .mapToObj(i -> DeliveryEmailOutbox.builder()
+                        .clientEmail(VALID_CLIENT_EMAIL)
+                        .subject("Produto recebido com sucesso")
+                        .body("email " + i)
+                        .createdDate(now)
+                        .nextAttemptDate(now)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldPublishEmailsInBatches_andDeleteOnlyConfirmedRows() throws Exception {
+        deliverySendEmailMockEndpoint.expectedMessageCount(EMAILS / BATCH_SIZE);
+
+        deliveryEmailOutboxRelay.relay();
+
+        deliverySendEmailMockEndpoint.assertIsSatisfied();
+        var objectMapper = new ObjectMapper();
+        for (var exchange : deliverySendEmailMockEndpoint.getExchanges()) {
+            var batch = objectMapper.readTree(exchange.getIn().getBody(String.class));
+            assertEquals(BATCH_SIZE, batch.size());
+            assertEquals(VALID_CLIENT_EMAIL, batch.get(0).get("clientEmail").asText());
+        }
+        assertEquals(0, deliveryEmailOutboxRepository.count());
+    }
+
+    @Test
+    void shouldKeepRowsOfBatchInOutbox_whenItsPublishFails() {
+        deliverySendEmailMockEndpoint.whenExchangeReceived(2, exchange -> {
+            throw new IllegalStateException("broker down");
+        });
+
+        deliveryEmailOutboxRelay.relay();
+
+        assertEquals(BATCH_SIZE, deliveryEmailOutboxRepository.count());
+        assertEquals(1, deliveryEmailOutboxRepository.findAll().stream()
+                .mapToInt(DeliveryEmailOutbox::getAttempts).max().orElse(0));
+    }
+}
@@ -0,0 +1,163 @@
+package com.neylandev.delivery.application.route;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.cache.CacheInvalidationMessage;
+import com.neylandev.delivery.infrastructure.cache.CacheInvalidationPublisher;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Produce;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@CamelSpringBootTest
+@TestPropertySource(
+        properties = {
+                "to.delivery.email=mock:send.email",
+                "cache.invalidation.enabled=true",
+                "to.cache.invalidation=mock:cache.invalidation",
+                "from.cache.invalidation=" + RabbitMQRouteBuilderCacheInvalidationIntegrationTest.FROM_CACHE_INVALIDATION
+        }
+)
+class RabbitMQRouteBuilderCacheInvalidationIntegrationTest {
+
+    static final String FROM_CACHE_INVALIDATION = "stub:cache.invalidation";
+    private static final long RECEIVE_TIMEOUT_MILLIS = 5000;
+
+    @Produce(FROM_CACHE_INVALIDATION)
+    ProducerTemplate producerTemplate;
+
+    @EndpointInject("mock:cache.invalidation")
+    MockEndpoint cacheInvalidationMockEndpoint;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void shouldPublishKey_whenCacheEntryWasEvicted() throws Exception {
+        cacheInvalidationMockEndpoint.reset();
+        cacheInvalidationMockEndpoint.expectedMessageCount(1);
+
+        cacheManager.getCache(Constants.DELIVERY_CACHE).evict(1L);
+
+        cacheInvalidationMockEndpoint.assertIsSatisfied();
+        var cacheInvalidationMessage = objectMapper.readValue(
+                cacheInvalidationMockEndpoint.getExchanges().get(0).getIn().getBody(String.class), CacheInvalidationMessage.class);
+        assertEquals(Constants.DELIVERY_CACHE, cacheInvalidationMessage.getCacheName());
+        assertEquals("1", cacheInvalidationMessage.getKey());
+        assertEquals(Long.class.getName(), cacheInvalidationMessage.getKeyType());
+        assertEquals(cacheInvalidationPublisher.getNodeId(), cacheInvalidationMessage.getOrigin());
+    }
+
+    @Test
+    void shouldEvictLocallyWithoutPublishingAgain_whenKeyWasReceivedFromAnotherNode() throws Exception {
+        var nativeCache = nativeCache(Constants.CLIENT_CACHE);
+        nativeCache.put(2L, "client");
+        cacheInvalidationMockEndpoint.reset();
+        cacheInvalidationMockEndpoint.expectedMessageCount(0);
+
+        producerTemplate.sendBody(objectMapper.writeValueAsString(CacheInvalidationMessage.builder()
+                .origin("another-node")
+                .cacheName(Constants.CLIENT_CACHE)
+                .key("2")
+                .keyType(Long.class.getName())
+                .build()));
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECEIVE_TIMEOUT_MILLIS);
+        while (nativeCache.getIfPresent(2L) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(nativeCache.getIfPresent(2L));
+        cacheInvalidationMockEndpoint.assertIsSatisfied();
+    }
+
+    @Test
+    void shouldIgnoreKey_whenItWasPublishedByThisNode() throws Exception {
+        var nativeCache = nativeCache(Constants.CLIENT_CACHE);
+        nativeCache.put(3L, "client");
+        nativeCache.put(4L, "client");
+
+        producerTemplate.sendBody(objectMapper.writeValueAsString(CacheInvalidationMessage.builder()
+                .origin(cacheInvalidationPublisher.getNodeId())
+                .cacheName(Constants.CLIENT_CACHE)
+                .key("3")
+                .keyType(Long.class.getName())
+                .build()));
+        // a mensagem seguinte só é consumida depois da anterior, então serve de marcador de que a primeira foi processada
+        producerTemplate.sendBody(objectMapper.writeValueAsString(CacheInvalidationMessage.builder()
+                .origin("another-node")
+                .cacheName(Constants.CLIENT_CACHE)
+                .key("4")
+                .keyType(Long.class.getName())
+                .build()));
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECEIVE_TIMEOUT_MILLIS);
+        while (nativeCache.getIfPresent(4L) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(nativeCache.getIfPresent(4L));
+        assertNotNull(nativeCache.getIfPresent(3L));
+    }
+
+    @Test
+    void shouldPublishStringFormOfKey_whenKeyWasNotALong() throws Exception {
+        cacheInvalidationMockEndpoint.reset();
+        cacheInvalidationMockEndpoint.expectedMessageCount(1);
+
+        cacheManager.getCache(Constants.CLIENT_CACHE).evict("client-5");
+
+        cacheInvalidationMockEndpoint.assertIsSatisfied();
+        var cacheInvalidationMessage = objectMapper.readValue(
+                cacheInvalidationMockEndpoint.getExchanges().get(0).getIn().getBody(String.class), CacheInvalidationMessage.class);
+        assertEquals("client-5", cacheInvalidationMessage.getKey());
+        assertEquals(String.class.getName(), cacheInvalidationMessage.getKeyType());
+    }
+
+    @Test
+    void shouldEvictEquivalentEntries_whenKeyTypeWasNotLongOrString() throws Exception {
+        var nativeCache = nativeCache(Constants.CLIENT_CACHE);
+        nativeCache.put(6, "client");
+        nativeCache.put(6L, "client");
+
+        producerTemplate.sendBody(objectMapper.writeValueAsString(CacheInvalidationMessage.builder()
+                .origin("another-node")
+                .cacheName(Constants.CLIENT_CACHE)
+                .key("6")
+                .keyType(Integer.class.getName())
+                .build()));
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECEIVE_TIMEOUT_MILLIS);
+        while (nativeCache.getIfPresent(6) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(nativeCache.getIfPresent(6));
+        assertNotNull(nativeCache.getIfPresent(6L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        return (Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache();
+    }
+}
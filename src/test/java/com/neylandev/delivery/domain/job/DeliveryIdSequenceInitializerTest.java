@@ -0,0 +1,56 @@
+package com.neylandev.delivery.domain.job;
+
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryIdSequenceInitializerTest {
+
+    @Mock
+    private DeliveryRepository deliveryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void shouldCreateAndRaiseIdSequence_whenInitialized() {
+        new DeliveryIdSequenceInitializer(deliveryRepository, transactionTemplate);
+
+        verify(deliveryRepository).insertIdSequence();
+        verify(deliveryRepository).raiseIdSequenceAboveMaxId();
+    }
+
+    @Test
+    void shouldStillRaiseIdSequence_whenAnotherInstanceCreatedItFirst() {
+        when(deliveryRepository.insertIdSequence()).thenThrow(new DataIntegrityViolationException("delivery_id_seq"));
+
+        new DeliveryIdSequenceInitializer(deliveryRepository, transactionTemplate);
+
+        verify(deliveryRepository).raiseIdSequenceAboveMaxId();
+    }
+}
@@ -0,0 +1,81 @@
+package com.neylandev.delivery.domain.job;
+
+import com.neylandev.delivery.domain.service.DeliveryStatsService;
+import com.neylandev.delivery.domain.service.JobLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryStatsJobTest {
+
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+
+    @InjectMocks
+    private DeliveryStatsJob deliveryStatsJob;
+
+    @Mock
+    private DeliveryStatsService deliveryStatsService;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(deliveryStatsJob, "lockAtMostFor", LOCK_AT_MOST_FOR);
+    }
+
+    @Test
+    void shouldRebuildAndReleaseLock_whenLockWasAcquired() {
+        when(jobLockService.tryAcquire(DeliveryStatsJob.LOCK_NAME, LOCK_AT_MOST_FOR)).thenReturn(true);
+
+        deliveryStatsJob.rebuild();
+
+        verify(deliveryStatsService).rebuild();
+        verify(jobLockService).release(DeliveryStatsJob.LOCK_NAME);
+    }
+
+    @Test
+    void shouldSkipRebuild_whenAnotherInstanceHoldsTheLock() {
+        when(jobLockService.tryAcquire(DeliveryStatsJob.LOCK_NAME, LOCK_AT_MOST_FOR)).thenReturn(false);
+
+        deliveryStatsJob.rebuild();
+
+        verify(deliveryStatsService, never()).rebuild();
+        verify(jobLockService, never()).release(any());
+    }
+
+    @Test
+    void shouldSkipPrepare_whenAnotherInstanceCreatedTheLockFirst() {
+        when(jobLockService.tryAcquire(DeliveryStatsJob.LOCK_NAME, LOCK_AT_MOST_FOR))
+                .thenThrow(new DataIntegrityViolationException("job_lock"));
+
+        deliveryStatsJob.prepare();
+
+        verify(deliveryStatsService, never()).prepare();
+        verify(jobLockService, never()).release(any());
+    }
+
+    @Test
+    void shouldReleaseLock_whenPrepareLostInsertRace() {
+        when(jobLockService.tryAcquire(DeliveryStatsJob.LOCK_NAME, LOCK_AT_MOST_FOR)).thenReturn(true);
+        doThrow(new DataIntegrityViolationException("delivery_stats_counter")).when(deliveryStatsService).prepare();
+
+        deliveryStatsJob.prepare();
+
+        verify(jobLockService).release(DeliveryStatsJob.LOCK_NAME);
+    }
+}
@@ -0,0 +1,129 @@
+package com.neylandev.delivery.domain.producer;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import com.neylandev.delivery.domain.service.DeliveryEmailOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_EMAIL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryEmailOutboxRelayTest {
+
+    @InjectMocks
+    private DeliveryEmailOutboxRelay deliveryEmailOutboxRelay;
+
+    @Mock
+    private DeliveryEmailOutboxService deliveryEmailOutboxService;
+
+    @Mock
+    private DeliverySendEmailProducer deliverySendEmailProducer;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(deliveryEmailOutboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(deliveryEmailOutboxRelay, "publishTimeout", Duration.ofMillis(100));
+    }
+
+    @Test
+    void shouldPublishAndDeleteBatch_untilOutboxIsDrained() {
+        var first = outbox(1L);
+        var second = outbox(2L);
+        var third = outbox(3L);
+        when(deliveryEmailOutboxService.claimBatch(2)).thenReturn(List.of(first, second), List.of(third));
+        when(deliverySendEmailProducer.send(any(DeliveryEmailDto.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        deliveryEmailOutboxRelay.relay();
+
+        verify(deliverySendEmailProducer, times(3)).send(argThat(dto -> VALID_CLIENT_EMAIL.equals(dto.getClientEmail())));
+        verify(deliveryEmailOutboxService).markSent(List.of(1L, 2L));
+        verify(deliveryEmailOutboxService).markSent(List.of(3L));
+        verify(deliveryEmailOutboxService, never()).reschedule(any());
+    }
+
+    @Test
+    void shouldRescheduleFailedAndStopDraining_whenBrokerFails() {
+        var first = outbox(1L);
+        var second = outbox(2L);
+        when(deliveryEmailOutboxService.claimBatch(2)).thenReturn(List.of(first, second));
+        when(deliverySendEmailProducer.send(any(DeliveryEmailDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        deliveryEmailOutboxRelay.relay();
+
+        verify(deliveryEmailOutboxService, times(1)).claimBatch(2);
+        verify(deliveryEmailOutboxService).markSent(List.of(1L));
+        verify(deliveryEmailOutboxService).reschedule(List.of(second));
+    }
+
+    @Test
+    void shouldRescheduleAsFailed_whenPublishNeverCompletes() {
+        var first = outbox(1L);
+        var second = outbox(2L);
+        when(deliveryEmailOutboxService.claimBatch(2)).thenReturn(List.of(first, second));
+        when(deliverySendEmailProducer.send(any(DeliveryEmailDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(new CompletableFuture<>());
+
+        deliveryEmailOutboxRelay.relay();
+
+        verify(deliveryEmailOutboxService, times(1)).claimBatch(2);
+        verify(deliveryEmailOutboxService).markSent(List.of(1L));
+        verify(deliveryEmailOutboxService).reschedule(List.of(second));
+    }
+
+    @Test
+    void shouldPublishOneMessagePerGroup_andDeleteOnlyConfirmedGroups_whenBatchIsEnabled() {
+        ReflectionTestUtils.setField(deliveryEmailOutboxRelay, "batchSize", 3);
+        ReflectionTestUtils.setField(deliveryEmailOutboxRelay, "publishBatchEnabled", true);
+        ReflectionTestUtils.setField(deliveryEmailOutboxRelay, "publishBatchSize", 2);
+        var first = outbox(1L);
+        var second = outbox(2L);
+        var third = outbox(3L);
+        when(deliveryEmailOutboxService.claimBatch(3)).thenReturn(List.of(first, second, third));
+        when(deliverySendEmailProducer.sendBatch(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        deliveryEmailOutboxRelay.relay();
+
+        verify(deliverySendEmailProducer).sendBatch(argThat(dtos -> dtos.size() == 2));
+        verify(deliverySendEmailProducer).sendBatch(argThat(dtos -> dtos.size() == 1));
+        verify(deliverySendEmailProducer, never()).send(any());
+        verify(deliveryEmailOutboxService).markSent(List.of(1L, 2L));
+        verify(deliveryEmailOutboxService).reschedule(List.of(third));
+    }
+
+    @Test
+    void shouldDoNothing_whenOutboxIsEmpty() {
+        when(deliveryEmailOutboxService.claimBatch(2)).thenReturn(Collections.emptyList());
+
+        deliveryEmailOutboxRelay.relay();
+
+        verify(deliverySendEmailProducer, never()).send(any());
+        verify(deliveryEmailOutboxService, never()).reschedule(any());
+    }
+
+    private DeliveryEmailOutbox outbox(Long id) {
+        return DeliveryEmailOutbox.builder().id(id).clientEmail(VALID_CLIENT_EMAIL).subject("subject").body("body").build();
+    }
+}
@@ -1,31 +1,48 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.request.ClientSearchRequestDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.model.Client;
 import com.neylandev.delivery.domain.repository.ClientRepository;
+import com.neylandev.delivery.domain.utils.ClientCursor;
+import com.neylandev.delivery.domain.utils.Constants;
 import com.neylandev.delivery.infrastructure.exception.BusinessException;
+import com.neylandev.delivery.infrastructure.exception.DuplicateClientException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static com.neylandev.delivery.DataForTests.INVALID_CLIENT_ID;
 import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
+import static com.neylandev.delivery.DataForTests.VALID_EMAIL;
+import static com.neylandev.delivery.DataForTests.VALID_NAME;
 import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.clientResponseDtoValid;
 import static com.neylandev.delivery.DataForTests.clientValid;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,21 +57,22 @@ class ClientServiceTest {
 
     @Test
     void shouldFindAllClients() {
-        var client = clientValid();
-        when(clientRepository.findAll()).thenReturn(Collections.singletonList(client));
+        var clientResponseDto = clientResponseDtoValid();
+        when(clientRepository.findAllResponses()).thenReturn(Collections.singletonList(clientResponseDto));
 
         var clientResponseDtoList = clientService.findAll();
 
-        assertEquals(client.getId(), clientResponseDtoList.stream().iterator().next().getId());
-        assertEquals(client.getEmail(), clientResponseDtoList.stream().iterator().next().getEmail());
-        assertEquals(client.getName(), clientResponseDtoList.stream().iterator().next().getName());
-        assertEquals(client.getTelephone(), clientResponseDtoList.stream().iterator().next().getTelephone());
+        assertEquals(clientResponseDto.getId(), clientResponseDtoList.stream().iterator().next().getId());
+        assertEquals(clientResponseDto.getEmail(), clientResponseDtoList.stream().iterator().next().getEmail());
+        assertEquals(clientResponseDto.getName(), clientResponseDtoList.stream().iterator().next().getName());
+        assertEquals(clientResponseDto.getTelephone(), clientResponseDtoList.stream().iterator().next().getTelephone());
+        verify(clientRepository, never()).findAll();
     }
 
     @Test
     void shouldFindClientById() {
-        var client = clientValid();
-        when(clientRepository.findById(client.getId())).thenReturn(Optional.of(client));
+        var client = clientResponseDtoValid();
+        when(clientRepository.findResponseById(client.getId())).thenReturn(Optional.of(client));
 
         var clientResponseDtoList = clientService.findById(client.getId());
 
@@ -66,19 +84,82 @@ class ClientServiceTest {
 
     @Test
     void shouldThrowBusinessException_whenFindClientById() {
-        when(clientRepository.findById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
+        when(clientRepository.findResponseById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
 
         assertThrows(BusinessException.class, () -> clientService.findById(INVALID_CLIENT_ID),
                 DataForBusinessException.CLIENT_NOT_FOUND.getMessage());
     }
 
+    @Test
+    void shouldChangeClientETag_whenClientDataChanged() {
+        var client = clientResponseDtoValid();
+        when(clientRepository.findResponseById(client.getId())).thenReturn(Optional.of(client));
+
+        var eTag = clientService.findETag(client.getId());
+        client.setName("Outro Nome");
+
+        assertEquals(eTag.length(), clientService.findETag(client.getId()).length());
+        assertNotEquals(eTag, clientService.findETag(client.getId()));
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenFindClientETag() {
+        when(clientRepository.findResponseById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> clientService.findETag(INVALID_CLIENT_ID),
+                DataForBusinessException.CLIENT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    void shouldSearchClientsByNamePrefix_andReturnCursorOfLastClient() {
+        var clientResponseDto = clientResponseDtoValid();
+        var pageable = PageRequest.of(0, 1);
+        when(clientRepository.searchByName("Teste%", null, null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(clientResponseDto), pageable, true));
+
+        var clientPageResponseDto = clientService.search(ClientSearchRequestDto.builder().name(" Teste ").size(1).build());
+
+        assertEquals(List.of(clientResponseDto), clientPageResponseDto.getContent());
+        var cursor = ClientCursor.decode(clientPageResponseDto.getNextCursor());
+        assertEquals(VALID_NAME, cursor.getValue());
+        assertEquals(clientResponseDto.getId(), cursor.getId());
+    }
+
+    @Test
+    void shouldSearchClientsAfterCursor_andEscapeWildcards() {
+        var cursor = new ClientCursor(VALID_EMAIL, VALID_CLIENT_ID);
+        when(clientRepository.searchByEmail(anyString(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        var clientPageResponseDto = clientService.search(ClientSearchRequestDto.builder()
+                .email("te_st%!").cursor(cursor.encode()).build());
+
+        verify(clientRepository).searchByEmail("te!_st!%!!%", VALID_EMAIL, VALID_CLIENT_ID, PageRequest.of(0, Constants.DEFAULT_PAGE_SIZE));
+        assertNull(clientPageResponseDto.getNextCursor());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenSearchHasNoneOrMoreThanOneTerm() {
+        var withoutTerm = ClientSearchRequestDto.builder().build();
+        var withTwoTerms = ClientSearchRequestDto.builder().name(VALID_NAME).email(VALID_EMAIL).build();
+        var withBlankTerm = ClientSearchRequestDto.builder().telephone(" ").build();
+
+        assertThrows(BusinessException.class, () -> clientService.search(withoutTerm),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+        assertThrows(BusinessException.class, () -> clientService.search(withTwoTerms),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+        assertThrows(BusinessException.class, () -> clientService.search(withBlankTerm),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+        verifyNoInteractions(clientRepository);
+    }
+
     @Test
     void shouldSaveClient() {
         var client = clientValid();
 
         var clientRequestDto = clientRequestDtoValid();
 
-        when(clientRepository.save(any(Client.class))).thenReturn(client);
+        when(clientRepository.saveAndFlush(any(Client.class))).thenReturn(client);
 
         var clientResponseDtoList = clientService.create(clientRequestDto);
 
@@ -87,6 +168,27 @@ class ClientServiceTest {
         assertEquals(clientRequestDto.getTelephone(), clientResponseDtoList.getTelephone());
     }
 
+    @Test
+    void shouldThrowDuplicateClientException_whenEmailUniqueIndexWasViolated() {
+        var violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry 'teste@teste.com' for key 'UK_CLIENT_EMAIL'"));
+        when(clientRepository.saveAndFlush(any(Client.class))).thenThrow(violation);
+
+        var duplicateClientException = assertThrows(DuplicateClientException.class, () -> clientService.create(clientRequestDtoValid()));
+
+        assertEquals("[email:O email informado já está cadastrado]", duplicateClientException.getDescription());
+        assertSame(violation, duplicateClientException.getCause());
+    }
+
+    @Test
+    void shouldRethrowViolation_whenItWasNotAClientUniqueIndex() {
+        var violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"NAME\""));
+        when(clientRepository.saveAndFlush(any(Client.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> clientService.create(clientRequestDtoValid())));
+    }
+
     @Test
     void shouldUpdateClient() {
         var client = clientValid();
@@ -94,13 +196,13 @@ class ClientServiceTest {
         var clientRequestDto = clientRequestDtoValid();
 
         when(clientRepository.existsById(VALID_CLIENT_ID)).thenReturn(true);
-        when(clientRepository.save(any(Client.class))).thenReturn(client);
+        when(clientRepository.saveAndFlush(any(Client.class))).thenReturn(client);
 
         ArgumentCaptor<Client> clientArgumentCaptor = ArgumentCaptor.forClass(Client.class);
 
         var clientResponseDto = clientService.update(VALID_CLIENT_ID, clientRequestDto);
 
-        verify(clientRepository, atLeastOnce()).save(clientArgumentCaptor.capture());
+        verify(clientRepository, atLeastOnce()).saveAndFlush(clientArgumentCaptor.capture());
         var clientArgumentCaptorValue = clientArgumentCaptor.getValue();
         assertEquals(VALID_CLIENT_ID, clientArgumentCaptorValue.getId());
         assertEquals(clientRequestDto.getEmail(), clientResponseDto.getEmail());
@@ -118,7 +220,7 @@ class ClientServiceTest {
 
         assertThrows(BusinessException.class, () -> clientService.update(INVALID_CLIENT_ID, clientRequestDto),
                 DataForBusinessException.CLIENT_NOT_FOUND.getMessage());
-        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).saveAndFlush(any(Client.class));
     }
 
     @Test
@@ -2,22 +2,30 @@ package com.neylandev.delivery.domain.service;
 
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.enums.DeliveryStatus;
-import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
 import com.neylandev.delivery.infrastructure.exception.BusinessException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.neylandev.delivery.DataForTests.INVALID_DELIVERY_ID;
+import static com.neylandev.delivery.DataForTests.VALID_DELIVERY_ID;
 import static com.neylandev.delivery.DataForTests.deliveryValid;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,53 +41,190 @@ class DeliveryCompletionServiceTest {
     @Mock
     private FindDeliveryService findDeliveryService;
 
+    @Mock
+    private DeliverySendEmailService deliverySendEmailService;
+
+    @Mock
+    private DeliveryEventService deliveryEventService;
+
+    @Mock
+    private DeliveryStatsService deliveryStatsService;
+
     @Test
     void shouldCompleteDelivery() {
         var delivery = deliveryValid();
 
-        when(findDeliveryService.find(delivery.getId())).thenReturn(delivery);
+        when(deliveryRepository.findWithClientById(delivery.getId())).thenReturn(Optional.of(delivery));
+        when(deliveryRepository.transitionStatus(eq(delivery.getId()), eq(DeliveryStatus.PENDING), eq(DeliveryStatus.FINALIZED), any()))
+                .thenReturn(1);
 
-        ArgumentCaptor<Delivery> deliveryArgumentCaptor = ArgumentCaptor.forClass(Delivery.class);
         assertDoesNotThrow(() -> deliveryCompletionService.complete(delivery.getId()));
 
-        verify(deliveryRepository, atLeastOnce()).save(deliveryArgumentCaptor.capture());
-        var value = deliveryArgumentCaptor.getValue();
-        assertEquals(DeliveryStatus.FINALIZED, value.getDeliveryStatus());
+        assertEquals(DeliveryStatus.FINALIZED, delivery.getDeliveryStatus());
+        assertNotNull(delivery.getEndDate());
+        verify(deliverySendEmailService).sendEmail(delivery);
+        verify(deliveryEventService).transitioned(delivery);
+        verify(deliveryStatsService).deliveriesTransitioned(DeliveryStatus.FINALIZED, 1);
+        verify(findDeliveryService).evict(delivery.getId());
     }
 
     @Test
     void shouldThrowBusinessException_whenCompleteWasCalled() {
-        when(findDeliveryService.find(INVALID_DELIVERY_ID))
-                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND
-                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
+        when(deliveryRepository.findWithClientById(INVALID_DELIVERY_ID)).thenReturn(Optional.empty());
+
+        var businessException = assertThrows(BusinessException.class, () -> deliveryCompletionService.complete(INVALID_DELIVERY_ID));
 
-        assertThrows(BusinessException.class, () -> deliveryCompletionService.complete(INVALID_DELIVERY_ID),
-                DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+        assertEquals(DataForBusinessException.DELIVERY_NOT_FOUND.getMessage(), businessException.getMessage());
+        verify(deliverySendEmailService, never()).sendEmail(any());
+        verify(deliveryEventService, never()).transitioned(any());
+        verify(deliveryStatsService, never()).deliveriesTransitioned(any(), anyInt());
+        verify(findDeliveryService, never()).evict(any());
+    }
+
+    @Test
+    void shouldThrowConflict_whenCompleteWasCalledAndDeliveryLostTheRace() {
+        var delivery = deliveryValid();
+        when(deliveryRepository.findWithClientById(delivery.getId())).thenReturn(Optional.of(delivery));
+
+        var businessException = assertThrows(BusinessException.class, () -> deliveryCompletionService.complete(delivery.getId()));
+
+        assertEquals(DataForBusinessException.DELIVERY_CANNOT_BE_COMPLETED.getMessage(), businessException.getMessage());
+        assertEquals(HttpStatus.CONFLICT, businessException.getHttpStatus());
+        assertEquals(DeliveryStatus.PENDING, delivery.getDeliveryStatus());
+        verify(deliverySendEmailService, never()).sendEmail(any());
+        verify(deliveryEventService, never()).transitioned(any());
+        verify(deliveryStatsService, never()).deliveriesTransitioned(any(), anyInt());
+        verify(findDeliveryService, never()).evict(any());
     }
 
     @Test
     void shouldCancelDelivery() {
         var delivery = deliveryValid();
 
-        when(findDeliveryService.find(delivery.getId())).thenReturn(delivery);
+        when(deliveryRepository.findWithClientById(delivery.getId())).thenReturn(Optional.of(delivery));
+        when(deliveryRepository.transitionStatus(eq(delivery.getId()), eq(DeliveryStatus.PENDING), eq(DeliveryStatus.CANCELLED), any()))
+                .thenReturn(1);
 
-        ArgumentCaptor<Delivery> deliveryArgumentCaptor = ArgumentCaptor.forClass(Delivery.class);
         assertDoesNotThrow(() -> deliveryCompletionService.cancel(delivery.getId()));
 
-        verify(deliveryRepository, atLeastOnce()).save(deliveryArgumentCaptor.capture());
-        var value = deliveryArgumentCaptor.getValue();
-        assertEquals(DeliveryStatus.CANCELLED, value.getDeliveryStatus());
+        assertEquals(DeliveryStatus.CANCELLED, delivery.getDeliveryStatus());
+        assertNotNull(delivery.getEndDate());
+        verify(deliverySendEmailService).sendEmail(delivery);
+        verify(deliveryEventService).transitioned(delivery);
+        verify(deliveryStatsService).deliveriesTransitioned(DeliveryStatus.CANCELLED, 1);
+        verify(findDeliveryService).evict(delivery.getId());
     }
 
     @Test
     void shouldThrowBusinessException_whenCancelWasCalled() {
-        when(findDeliveryService.find(INVALID_DELIVERY_ID))
-                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND
-                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
+        when(deliveryRepository.findWithClientById(INVALID_DELIVERY_ID)).thenReturn(Optional.empty());
+
+        var businessException = assertThrows(BusinessException.class, () -> deliveryCompletionService.cancel(INVALID_DELIVERY_ID));
+
+        assertEquals(DataForBusinessException.DELIVERY_NOT_FOUND.getMessage(), businessException.getMessage());
+        verify(deliverySendEmailService, never()).sendEmail(any());
+        verify(deliveryEventService, never()).transitioned(any());
+        verify(deliveryStatsService, never()).deliveriesTransitioned(any(), anyInt());
+        verify(findDeliveryService, never()).evict(any());
+    }
 
-        assertThrows(BusinessException.class, () -> deliveryCompletionService.cancel(INVALID_DELIVERY_ID),
-                DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+    @Test
+    void shouldThrowConflict_whenCancelWasCalledAndDeliveryWasNoLongerPending() {
+        var delivery = deliveryValid();
+        delivery.complete();
+        when(deliveryRepository.findWithClientById(delivery.getId())).thenReturn(Optional.of(delivery));
+
+        var businessException = assertThrows(BusinessException.class, () -> deliveryCompletionService.cancel(delivery.getId()));
+
+        assertEquals(DataForBusinessException.DELIVERY_CANNOT_BE_CANCELED.getMessage(), businessException.getMessage());
+        assertEquals(HttpStatus.CONFLICT, businessException.getHttpStatus());
+        verify(deliveryRepository, never()).transitionStatus(any(), any(), any(), any());
+        verify(deliverySendEmailService, never()).sendEmail(any());
+        verify(deliveryEventService, never()).transitioned(any());
+        verify(deliveryStatsService, never()).deliveriesTransitioned(any(), anyInt());
+        verify(findDeliveryService, never()).evict(any());
     }
 
+    @Test
+    void shouldCompleteDeliveriesAndReportFailures_whenCompleteAllWasCalled() {
+        var delivery = deliveryValid();
+        var finalizedDelivery = deliveryValid();
+        finalizedDelivery.setId(VALID_DELIVERY_ID + 1);
+        finalizedDelivery.complete();
+
+        when(deliveryRepository.findAllWithClientByIdIn(any())).thenReturn(List.of(delivery, finalizedDelivery));
+        when(deliveryRepository.transitionStatuses(eq(Set.of(delivery.getId())), eq(DeliveryStatus.PENDING), eq(DeliveryStatus.FINALIZED), any()))
+                .thenReturn(1);
+
+        var deliveryTransitionResponseDto = deliveryCompletionService.completeAll(
+                List.of(delivery.getId(), finalizedDelivery.getId(), INVALID_DELIVERY_ID, delivery.getId()));
+
+        assertEquals(1, deliveryTransitionResponseDto.getSucceeded());
+        assertEquals(2, deliveryTransitionResponseDto.getFailed());
+        var results = deliveryTransitionResponseDto.getResults();
+        assertEquals(3, results.size());
+        assertEquals(HttpStatus.NO_CONTENT.value(), results.get(0).getStatus());
+        assertEquals(DataForBusinessException.DELIVERY_CANNOT_BE_COMPLETED.getMessage(), results.get(1).getMessage());
+        assertEquals(HttpStatus.CONFLICT.value(), results.get(1).getStatus());
+        assertEquals(DataForBusinessException.DELIVERY_NOT_FOUND.getMessage(), results.get(2).getMessage());
+        assertEquals(DeliveryStatus.FINALIZED, delivery.getDeliveryStatus());
+        verify(deliverySendEmailService).sendEmails(List.of(delivery));
+        verify(deliveryEventService).transitioned(delivery);
+        verify(deliveryStatsService).deliveriesTransitioned(DeliveryStatus.FINALIZED, 1);
+        verify(findDeliveryService).evict(delivery.getId());
+        verify(deliveryRepository).findAllWithClientByIdIn(Set.of(delivery.getId(), finalizedDelivery.getId(), INVALID_DELIVERY_ID));
+        verify(deliveryRepository, never()).transitionStatus(any(), any(), any(), any());
+        verify(findDeliveryService, never()).evict(finalizedDelivery.getId());
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenLockedDeliveriesWereNotAllTransitioned() {
+        var delivery = deliveryValid();
+        var otherDelivery = deliveryValid();
+        otherDelivery.setId(VALID_DELIVERY_ID + 1);
+
+        when(deliveryRepository.findAllWithClientByIdIn(any())).thenReturn(List.of(delivery, otherDelivery));
+        when(deliveryRepository.transitionStatuses(eq(Set.of(delivery.getId(), otherDelivery.getId())), eq(DeliveryStatus.PENDING),
+                eq(DeliveryStatus.FINALIZED), any())).thenReturn(1);
+
+        var deliveryIds = List.of(delivery.getId(), otherDelivery.getId());
+        assertThrows(IllegalStateException.class, () -> deliveryCompletionService.completeAll(deliveryIds));
+
+        verify(deliverySendEmailService, never()).sendEmails(any());
+        verify(deliveryEventService, never()).transitioned(any());
+        verify(deliveryStatsService, never()).deliveriesTransitioned(any(), anyInt());
+    }
+
+    @Test
+    void shouldCancelDeliveries_whenCancelAllWasCalled() {
+        var delivery = deliveryValid();
+
+        when(deliveryRepository.findAllWithClientByIdIn(any())).thenReturn(List.of(delivery));
+        when(deliveryRepository.transitionStatuses(eq(Set.of(delivery.getId())), eq(DeliveryStatus.PENDING), eq(DeliveryStatus.CANCELLED), any()))
+                .thenReturn(1);
+
+        var deliveryTransitionResponseDto = deliveryCompletionService.cancelAll(List.of(delivery.getId()));
+
+        assertEquals(1, deliveryTransitionResponseDto.getSucceeded());
+        assertEquals(0, deliveryTransitionResponseDto.getFailed());
+        assertEquals(DeliveryStatus.CANCELLED, delivery.getDeliveryStatus());
+        verify(deliverySendEmailService).sendEmails(List.of(delivery));
+        verify(deliveryEventService).transitioned(delivery);
+        verify(deliveryStatsService).deliveriesTransitioned(DeliveryStatus.CANCELLED, 1);
+        verify(findDeliveryService).evict(delivery.getId());
+    }
+
+    @Test
+    void shouldNotUpdate_whenCompleteAllWasCalledAndNoDeliveryIsPending() {
+        var finalizedDelivery = deliveryValid();
+        finalizedDelivery.complete();
+        when(deliveryRepository.findAllWithClientByIdIn(any())).thenReturn(List.of(finalizedDelivery));
+
+        var deliveryTransitionResponseDto = deliveryCompletionService.completeAll(List.of(finalizedDelivery.getId()));
+
+        assertEquals(0, deliveryTransitionResponseDto.getSucceeded());
+        assertEquals(1, deliveryTransitionResponseDto.getFailed());
+        verify(deliveryRepository, never()).transitionStatuses(any(), any(), any(), any());
+    }
 
-}
\ No newline at end of file
+}
@@ -1,31 +1,53 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.request.ClientDeliveryFilterRequestDto;
+import com.neylandev.delivery.application.request.DeliveryFilterRequestDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.enums.DeliveryStatus;
 import com.neylandev.delivery.domain.model.Delivery;
 import com.neylandev.delivery.domain.repository.ClientRepository;
 import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.domain.utils.ParseObjects;
+import com.neylandev.delivery.domain.utils.DeliveryCursor;
+import com.neylandev.delivery.domain.utils.DeliveryVersion;
 import com.neylandev.delivery.infrastructure.exception.BusinessException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.neylandev.delivery.DataForTests.INVALID_CLIENT_ID;
 import static com.neylandev.delivery.DataForTests.INVALID_DELIVERY_ID;
 import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
+import static com.neylandev.delivery.DataForTests.clientResponseDtoValid;
 import static com.neylandev.delivery.DataForTests.clientValid;
 import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.deliveryResponseDtoValid;
 import static com.neylandev.delivery.DataForTests.deliveryValid;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,9 +63,18 @@ class DeliveryCreationServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
+    @Mock
+    private DeliveryEventService deliveryEventService;
+
+    @Mock
+    private DeliveryStatsService deliveryStatsService;
+
     @Mock
     private FindDeliveryService findDeliveryService;
 
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @Test
     void shouldSaveDelivery() {
         var client = clientValid();
@@ -52,7 +83,7 @@ class DeliveryCreationServiceTest {
 
         ArgumentCaptor<Delivery> deliveryArgumentCaptor = ArgumentCaptor.forClass(Delivery.class);
 
-        when(clientRepository.findById(VALID_CLIENT_ID)).thenReturn(Optional.of(client));
+        when(clientRepository.findResponseById(VALID_CLIENT_ID)).thenReturn(Optional.of(ParseObjects.clientToClientResponseDto(client)));
         when(deliveryRepository.save(any(Delivery.class))).thenReturn(deliveryValid());
 
         var deliveryResponseDto = deliveryCreationService.save(deliveryRequestDto);
@@ -63,6 +94,8 @@ class DeliveryCreationServiceTest {
         assertNotNull(deliveryArgumentCaptorValue.getOrderedDate());
         assertNotNull(deliveryResponseDto);
         assertEquals(DeliveryStatus.PENDING, deliveryArgumentCaptorValue.getDeliveryStatus());
+        verify(deliveryEventService).created(deliveryResponseDto);
+        verify(deliveryStatsService).deliveriesCreated(List.of(deliveryArgumentCaptorValue));
     }
 
     @Test
@@ -70,7 +103,7 @@ class DeliveryCreationServiceTest {
         var deliveryRequestDto = deliveryRequestDtoValid();
         deliveryRequestDto.setClientId(INVALID_CLIENT_ID);
 
-        when(clientRepository.findById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
+        when(clientRepository.findResponseById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
 
         assertThrows(BusinessException.class,
                 () -> deliveryCreationService.save(deliveryRequestDto),
@@ -79,40 +112,191 @@ class DeliveryCreationServiceTest {
 
     }
 
+    @Test
+    void shouldSaveValidDeliveriesAndReportFailures_whenBatchWasPassed() {
+        var client = clientValid();
+        var invalidDeliveryRequestDto = deliveryRequestDtoValid();
+        invalidDeliveryRequestDto.setTax(null);
+        var unknownClientDeliveryRequestDto = deliveryRequestDtoValid();
+        unknownClientDeliveryRequestDto.setClientId(INVALID_CLIENT_ID);
+
+        when(clientRepository.findAllById(Set.of(VALID_CLIENT_ID, INVALID_CLIENT_ID))).thenReturn(List.of(client));
+        when(deliveryRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var deliveryBatchResponseDto = deliveryCreationService.saveAll(List.of(deliveryRequestDtoValid(),
+                invalidDeliveryRequestDto, unknownClientDeliveryRequestDto, deliveryRequestDtoValid()));
+
+        assertEquals(2, deliveryBatchResponseDto.getCreated());
+        assertEquals(2, deliveryBatchResponseDto.getFailed());
+        var results = deliveryBatchResponseDto.getResults();
+        assertEquals(HttpStatus.CREATED.value(), results.get(0).getStatus());
+        assertEquals(client.getId(), results.get(0).getDelivery().getClientId());
+        assertEquals(DeliveryStatus.PENDING, results.get(0).getDelivery().getDeliveryStatus());
+        verify(deliveryEventService).created(results.get(0).getDelivery());
+        verify(deliveryEventService).created(results.get(3).getDelivery());
+        assertEquals(DataForBusinessException.INVALID_INPUT.getMessage(), results.get(1).getMessage());
+        assertTrue(results.get(1).getDescription().contains("tax"));
+        assertEquals(DataForBusinessException.CLIENT_DELIVERY_NOT_FOUND.getMessage(), results.get(2).getMessage());
+        assertEquals(3, results.get(3).getIndex());
+        verify(clientRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenBatchIsEmptyOrTooLarge() {
+        var tooLargeBatch = Collections.nCopies(Constants.MAX_BATCH_SIZE + 1, deliveryRequestDtoValid());
+
+        assertThrows(BusinessException.class, () -> deliveryCreationService.saveAll(Collections.emptyList()),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+        assertThrows(BusinessException.class, () -> deliveryCreationService.saveAll(tooLargeBatch),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+    }
+
     @Test
     void shouldFindAllDeliveries() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        when(deliveryRepository.findPage(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(deliveryResponseDto)));
+
+        var deliveryPageResponseDto = deliveryCreationService.findAll(new DeliveryFilterRequestDto());
+
+        var deliveryResponseDtoList = deliveryPageResponseDto.getContent();
+        assertEquals(deliveryResponseDto.getId(), deliveryResponseDtoList.stream().iterator().next().getId());
+        assertEquals(deliveryResponseDto.getClientId(), deliveryResponseDtoList.stream().iterator().next().getClientId());
+        assertEquals(deliveryResponseDto.getDeliveryStatus(), deliveryResponseDtoList.stream().iterator().next().getDeliveryStatus());
+        assertNull(deliveryPageResponseDto.getNextCursor());
+    }
+
+    @Test
+    void shouldReturnNextCursor_whenThereAreMoreDeliveries() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        var filter = DeliveryFilterRequestDto.builder().size(1).build();
+        when(deliveryRepository.findPage(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(deliveryResponseDto), PageRequest.of(0, 1), true));
+
+        var deliveryPageResponseDto = deliveryCreationService.findAll(filter);
+
+        var cursor = DeliveryCursor.decode(deliveryPageResponseDto.getNextCursor());
+        assertEquals(deliveryResponseDto.getId(), cursor.getId());
+        assertEquals(deliveryResponseDto.getOrderedDate(), cursor.getOrderedDate());
+    }
+
+    @Test
+    void shouldSearchAfterCursorWithLimitedPageSize_whenCursorWasPassed() {
         var delivery = deliveryValid();
-        when(deliveryRepository.findAll()).thenReturn(Collections.singletonList(delivery));
+        var filter = DeliveryFilterRequestDto.builder()
+                .cursor(DeliveryCursor.of(delivery).encode())
+                .size(Constants.MAX_PAGE_SIZE + 1)
+                .build();
+        when(deliveryRepository.findPage(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
-        var deliveryResponseDtoList = deliveryCreationService.findAll();
+        deliveryCreationService.findAll(filter);
 
-        assertEquals(delivery.getId(), deliveryResponseDtoList.stream().iterator().next().getId());
-        assertEquals(delivery.getClient().getId(), deliveryResponseDtoList.stream().iterator().next().getClientId());
-        assertEquals(delivery.getDeliveryStatus(), deliveryResponseDtoList.stream().iterator().next().getDeliveryStatus());
+        verify(deliveryRepository).findPage(null, null, null, null, delivery.getOrderedDate(), delivery.getId(),
+                PageRequest.of(0, Constants.MAX_PAGE_SIZE));
     }
 
     @Test
-    void shouldFindDeliveryById() {
+    void shouldThrowBusinessException_whenCursorIsInvalid() {
+        var filter = DeliveryFilterRequestDto.builder().cursor("invalid").build();
+
+        assertThrows(BusinessException.class, () -> deliveryCreationService.findAll(filter),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+    }
+
+    @Test
+    void shouldFindAllDeliveriesOfClient_withoutLookingUpClient_whenPageHasContent() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        var filter = ClientDeliveryFilterRequestDto.builder().deliveryStatus(DeliveryStatus.PENDING).size(1).build();
+        when(deliveryRepository.findPageByClientId(any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(deliveryResponseDto), PageRequest.of(0, 1), true));
+
+        var deliveryPageResponseDto = deliveryCreationService.findAllOfClient(VALID_CLIENT_ID, filter);
+
+        assertEquals(deliveryResponseDto.getId(), deliveryPageResponseDto.getContent().get(0).getId());
+        assertEquals(deliveryResponseDto.getId(), DeliveryCursor.decode(deliveryPageResponseDto.getNextCursor()).getId());
+        verify(deliveryRepository).findPageByClientId(VALID_CLIENT_ID, DeliveryStatus.PENDING, null, null, PageRequest.of(0, 1));
+        verify(clientRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void shouldReturnEmptyPageOfClientDeliveries_whenClientHasNoDeliveries() {
         var delivery = deliveryValid();
+        var filter = ClientDeliveryFilterRequestDto.builder().cursor(DeliveryCursor.of(delivery).encode()).build();
+        when(deliveryRepository.findPageByClientId(any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+        when(clientRepository.findResponseById(VALID_CLIENT_ID)).thenReturn(Optional.of(clientResponseDtoValid()));
+
+        var deliveryPageResponseDto = deliveryCreationService.findAllOfClient(VALID_CLIENT_ID, filter);
+
+        assertTrue(deliveryPageResponseDto.getContent().isEmpty());
+        assertNull(deliveryPageResponseDto.getNextCursor());
+        verify(deliveryRepository).findPageByClientId(VALID_CLIENT_ID, null, delivery.getOrderedDate(), delivery.getId(),
+                PageRequest.of(0, Constants.DEFAULT_PAGE_SIZE));
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenListingDeliveriesOfInvalidClient() {
+        var filter = new ClientDeliveryFilterRequestDto();
+        when(deliveryRepository.findPageByClientId(any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+        when(clientRepository.findResponseById(INVALID_CLIENT_ID)).thenReturn(Optional.empty());
+
+        var businessException = assertThrows(BusinessException.class,
+                () -> deliveryCreationService.findAllOfClient(INVALID_CLIENT_ID, filter));
+
+        assertEquals(HttpStatus.NOT_FOUND, businessException.getHttpStatus());
+    }
+
+    @Test
+    void shouldFindDeliveryById() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
 
-        when(findDeliveryService.find(delivery.getId())).thenReturn(delivery);
+        when(findDeliveryService.findResponse(deliveryResponseDto.getId())).thenReturn(deliveryResponseDto);
 
-        var deliveryResponseDtoList = deliveryCreationService.findById(delivery.getId());
+        var deliveryResponseDtoList = deliveryCreationService.findById(deliveryResponseDto.getId());
 
-        assertEquals(delivery.getId(), deliveryResponseDtoList.getId());
-        assertEquals(delivery.getClient().getId(), deliveryResponseDtoList.getClientId());
-        assertEquals(delivery.getDeliveryStatus(), deliveryResponseDtoList.getDeliveryStatus());
+        assertEquals(deliveryResponseDto.getId(), deliveryResponseDtoList.getId());
+        assertEquals(deliveryResponseDto.getClientId(), deliveryResponseDtoList.getClientId());
+        assertEquals(deliveryResponseDto.getDeliveryStatus(), deliveryResponseDtoList.getDeliveryStatus());
+        verify(deliveryRepository, never()).findById(any());
     }
 
     @Test
     void shouldThrowBusinessException_whenFindDeliveryById() {
-        when(findDeliveryService.find(INVALID_DELIVERY_ID))
-                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND
-                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
+        when(findDeliveryService.findResponse(INVALID_DELIVERY_ID))
+                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
 
         assertThrows(BusinessException.class, () -> deliveryCreationService.findById(INVALID_DELIVERY_ID),
                 DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
     }
 
+    @Test
+    void shouldFindDeliveryVersionWithTheSameETagAsTheDeliveryResponse() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        when(findDeliveryService.findResponse(deliveryResponseDto.getId())).thenReturn(deliveryResponseDto);
+
+        var deliveryVersion = deliveryCreationService.findVersion(deliveryResponseDto.getId());
+
+        assertEquals(DeliveryVersion.of(deliveryResponseDto).eTag(), deliveryVersion.eTag());
+    }
+
+    @Test
+    void shouldChangeETag_whenDeliveryStatusChanged() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        var eTag = DeliveryVersion.of(deliveryResponseDto).eTag();
 
-}
\ No newline at end of file
+        deliveryResponseDto.setDeliveryStatus(DeliveryStatus.FINALIZED);
+
+        assertNotEquals(eTag, DeliveryVersion.of(deliveryResponseDto).eTag());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenFindDeliveryVersion() {
+        when(findDeliveryService.findResponse(INVALID_DELIVERY_ID))
+                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
+
+        assertThrows(BusinessException.class, () -> deliveryCreationService.findVersion(INVALID_DELIVERY_ID),
+                DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+    }
+}
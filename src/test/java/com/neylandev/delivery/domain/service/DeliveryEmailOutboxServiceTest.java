@@ -0,0 +1,97 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.domain.model.DeliveryEmailOutbox;
+import com.neylandev.delivery.domain.repository.DeliveryEmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryEmailOutboxServiceTest {
+
+    @InjectMocks
+    private DeliveryEmailOutboxService deliveryEmailOutboxService;
+
+    @Mock
+    private DeliveryEmailOutboxRepository deliveryEmailOutboxRepository;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(deliveryEmailOutboxService, "lease", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(deliveryEmailOutboxService, "backoffInitial", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(deliveryEmailOutboxService, "backoffMax", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldEnqueueEmailDueNow() {
+        var deliveryEmailDto = DeliveryEmailDto.builder().clientEmail(VALID_CLIENT_EMAIL).subject("subject").body("body").build();
+
+        deliveryEmailOutboxService.enqueue(deliveryEmailDto);
+
+        ArgumentCaptor<DeliveryEmailOutbox> deliveryEmailOutboxArgumentCaptor = ArgumentCaptor.forClass(DeliveryEmailOutbox.class);
+        verify(deliveryEmailOutboxRepository).save(deliveryEmailOutboxArgumentCaptor.capture());
+        var value = deliveryEmailOutboxArgumentCaptor.getValue();
+        assertEquals(VALID_CLIENT_EMAIL, value.getClientEmail());
+        assertEquals("subject", value.getSubject());
+        assertEquals("body", value.getBody());
+        assertEquals(0, value.getAttempts());
+        assertEquals(value.getCreatedDate(), value.getNextAttemptDate());
+    }
+
+    @Test
+    void shouldLeaseClaimedBatch() {
+        var deliveryEmailOutbox = DeliveryEmailOutbox.builder().id(1L).nextAttemptDate(OffsetDateTime.now()).build();
+        when(deliveryEmailOutboxRepository.findDue(any(OffsetDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(deliveryEmailOutbox));
+
+        var batch = deliveryEmailOutboxService.claimBatch(10);
+
+        assertEquals(1, batch.size());
+        assertTrue(deliveryEmailOutbox.getNextAttemptDate().isAfter(OffsetDateTime.now().plusSeconds(20)));
+    }
+
+    @Test
+    void shouldNotDelete_whenNothingWasSent() {
+        deliveryEmailOutboxService.markSent(Collections.emptyList());
+
+        verify(deliveryEmailOutboxRepository, never()).deleteByIdIn(anyCollection());
+    }
+
+    @Test
+    void shouldRescheduleWithExponentialBackoffLimitedToMax() {
+        var firstFailure = DeliveryEmailOutbox.builder().id(1L).attempts(0).build();
+        var manyFailures = DeliveryEmailOutbox.builder().id(2L).attempts(10).build();
+        var before = OffsetDateTime.now();
+
+        deliveryEmailOutboxService.reschedule(List.of(firstFailure, manyFailures));
+
+        assertEquals(1, firstFailure.getAttempts());
+        assertTrue(!firstFailure.getNextAttemptDate().isBefore(before.plusSeconds(1)));
+        assertTrue(firstFailure.getNextAttemptDate().isBefore(before.plusSeconds(2)));
+        assertEquals(11, manyFailures.getAttempts());
+        assertTrue(!manyFailures.getNextAttemptDate().isBefore(before.plusSeconds(5)));
+        assertTrue(manyFailures.getNextAttemptDate().isBefore(before.plusSeconds(6)));
+        verify(deliveryEmailOutboxRepository).saveAll(anyCollection());
+    }
+}
@@ -0,0 +1,81 @@
+package com.neylandev.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.application.request.DeliveryFilterRequestDto;
+import com.neylandev.delivery.domain.enums.DeliveryExportFormat;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.utils.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
+import static com.neylandev.delivery.DataForTests.VALID_DELIVERY_ID;
+import static com.neylandev.delivery.DataForTests.deliveryResponseDtoValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryExportServiceTest {
+
+    @InjectMocks
+    private DeliveryExportService deliveryExportService;
+
+    @Mock
+    private DeliveryRepository deliveryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void shouldWriteOneJsonLinePerDelivery_whenFormatIsNdjson() throws Exception {
+        var filter = DeliveryFilterRequestDto.builder().deliveryStatus(DeliveryStatus.PENDING).clientId(VALID_CLIENT_ID).build();
+        when(deliveryRepository.streamAll(DeliveryStatus.PENDING, VALID_CLIENT_ID, null, null))
+                .thenReturn(Stream.of(deliveryResponseDtoValid(), deliveryResponseDtoValid()));
+        var outputStream = new ByteArrayOutputStream();
+
+        deliveryExportService.export(filter, DeliveryExportFormat.NDJSON, outputStream);
+
+        var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(VALID_DELIVERY_ID, objectMapper.readTree(lines[0]).get("id").asLong());
+    }
+
+    @Test
+    void shouldWriteHeaderAndEscapedRows_whenFormatIsCsv() throws Exception {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        deliveryResponseDto.setRecipientComplement("Apto 1, \"fundos\"");
+        when(deliveryRepository.streamAll(null, null, null, null)).thenReturn(Stream.of(deliveryResponseDto));
+        var outputStream = new ByteArrayOutputStream();
+
+        deliveryExportService.export(new DeliveryFilterRequestDto(), DeliveryExportFormat.CSV, outputStream);
+
+        var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,clientId,"));
+        assertTrue(lines[1].startsWith(VALID_DELIVERY_ID + ","));
+        assertTrue(lines[1].contains(",\"Apto 1, \"\"fundos\"\"\","));
+    }
+
+    @Test
+    void shouldWriteEveryDelivery_whenThereAreMoreDeliveriesThanFetchSize() throws Exception {
+        var total = Constants.EXPORT_FETCH_SIZE * 2 + 1;
+        when(deliveryRepository.streamAll(null, null, null, null))
+                .thenReturn(IntStream.range(0, total).mapToObj(i -> deliveryResponseDtoValid()));
+        var outputStream = new ByteArrayOutputStream();
+
+        deliveryExportService.export(new DeliveryFilterRequestDto(), DeliveryExportFormat.NDJSON, outputStream);
+
+        assertEquals(total, outputStream.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+}
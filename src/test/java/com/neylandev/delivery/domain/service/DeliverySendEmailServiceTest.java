@@ -0,0 +1,89 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.domain.dto.DeliveryEmailDto;
+import com.neylandev.delivery.infrastructure.email.DeliveryEmailTemplates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_EMAIL;
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_NAME;
+import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_NAME;
+import static com.neylandev.delivery.DataForTests.deliveryEmailTemplates;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DeliverySendEmailServiceTest {
+
+    @InjectMocks
+    private DeliverySendEmailService deliverySendEmailService;
+
+    @Mock
+    private DeliveryEmailOutboxService deliveryEmailOutboxService;
+
+    @Spy
+    private DeliveryEmailTemplates deliveryEmailTemplates = deliveryEmailTemplates();
+
+    @Test
+    void shouldEnqueueFinalizedEmail() {
+        var delivery = deliveryValid();
+        delivery.complete();
+
+        deliverySendEmailService.sendEmail(delivery);
+
+        ArgumentCaptor<DeliveryEmailDto> deliveryEmailDtoArgumentCaptor = ArgumentCaptor.forClass(DeliveryEmailDto.class);
+        verify(deliveryEmailOutboxService).enqueue(deliveryEmailDtoArgumentCaptor.capture());
+        var value = deliveryEmailDtoArgumentCaptor.getValue();
+        assertEquals(VALID_CLIENT_EMAIL, value.getClientEmail());
+        assertEquals("Produto recebido com sucesso", value.getSubject());
+        assertEquals(String.format("<p>O produto de %s foi recebido por %s</p>", VALID_CLIENT_NAME, VALID_RECIPIENT_NAME), value.getBody());
+    }
+
+    @Test
+    void shouldEnqueueCanceledEmail() {
+        var delivery = deliveryValid();
+        delivery.cancel();
+
+        deliverySendEmailService.sendEmail(delivery);
+
+        ArgumentCaptor<DeliveryEmailDto> deliveryEmailDtoArgumentCaptor = ArgumentCaptor.forClass(DeliveryEmailDto.class);
+        verify(deliveryEmailOutboxService).enqueue(deliveryEmailDtoArgumentCaptor.capture());
+        var value = deliveryEmailDtoArgumentCaptor.getValue();
+        assertEquals(VALID_CLIENT_EMAIL, value.getClientEmail());
+        assertEquals("O envio do produto foi cancelado", value.getSubject());
+        assertEquals(String.format("<p>O produto de %s não pode ser enviado</p>", VALID_CLIENT_NAME), value.getBody());
+    }
+
+    @Test
+    void shouldEnqueueAllEmailsAtOnce_whenSendEmailsWasCalled() {
+        var finalizedDelivery = deliveryValid();
+        finalizedDelivery.complete();
+        var canceledDelivery = deliveryValid();
+        canceledDelivery.cancel();
+
+        deliverySendEmailService.sendEmails(List.of(finalizedDelivery, canceledDelivery));
+
+        ArgumentCaptor<List<DeliveryEmailDto>> deliveryEmailDtosArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(deliveryEmailOutboxService).enqueueAll(deliveryEmailDtosArgumentCaptor.capture());
+        var value = deliveryEmailDtosArgumentCaptor.getValue();
+        assertEquals(2, value.size());
+        assertEquals("Produto recebido com sucesso", value.get(0).getSubject());
+        assertEquals("O envio do produto foi cancelado", value.get(1).getSubject());
+    }
+
+    @Test
+    void shouldNotEnqueueEmails_whenNoDeliveryWasPassed() {
+        deliverySendEmailService.sendEmails(List.of());
+
+        verifyNoInteractions(deliveryEmailOutboxService);
+    }
+}
@@ -0,0 +1,207 @@
+package com.neylandev.delivery.domain.service;
+
+import com.neylandev.delivery.application.request.DeliveryStatsFilterRequestDto;
+import com.neylandev.delivery.application.response.DeliveryDailyStatsResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.enums.DeliveryStatus;
+import com.neylandev.delivery.domain.model.DeliveryDailyStats;
+import com.neylandev.delivery.domain.model.DeliveryStatsCounter;
+import com.neylandev.delivery.domain.repository.DeliveryDailyStatsRepository;
+import com.neylandev.delivery.domain.repository.DeliveryOccurrenceCounterRepository;
+import com.neylandev.delivery.domain.repository.DeliveryRepository;
+import com.neylandev.delivery.domain.repository.DeliveryStatsCounterRepository;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.neylandev.delivery.DataForTests.VALID_DELIVERY_ID;
+import static com.neylandev.delivery.DataForTests.deliveryResponseDtoValid;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryStatsServiceTest {
+
+    @InjectMocks
+    private DeliveryStatsService deliveryStatsService;
+
+    @Mock
+    private DeliveryStatsCounterRepository deliveryStatsCounterRepository;
+
+    @Mock
+    private DeliveryDailyStatsRepository deliveryDailyStatsRepository;
+
+    @Mock
+    private DeliveryOccurrenceCounterRepository deliveryOccurrenceCounterRepository;
+
+    @Mock
+    private DeliveryRepository deliveryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(deliveryStatsService, "zoneId", ZoneId.of("UTC"));
+    }
+
+    // executa os callbacks na hora, como o template faria dentro de uma transação nova
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void shouldIncrementCounters_whenDeliveriesWereCreated() {
+        var delivery = deliveryValid();
+        var orderedDay = delivery.getOrderedDate().atZoneSameInstant(ZoneId.of("UTC")).toLocalDate();
+
+        when(deliveryStatsCounterRepository.increment("deliveries.PENDING", 1)).thenReturn(1);
+        when(deliveryDailyStatsRepository.increment(orderedDay, 1, delivery.getTax())).thenReturn(1);
+
+        deliveryStatsService.deliveriesCreated(List.of(delivery));
+
+        verify(deliveryOccurrenceCounterRepository).saveAll(anyList());
+        verify(deliveryStatsCounterRepository).increment("deliveries.PENDING", 1);
+        verify(deliveryDailyStatsRepository).increment(orderedDay, 1, delivery.getTax());
+        verify(deliveryDailyStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreateDailyStats_whenDayWasNotPrepared() {
+        var delivery = deliveryValid();
+
+        deliveryStatsService.deliveriesCreated(List.of(delivery));
+
+        ArgumentCaptor<DeliveryDailyStats> deliveryDailyStatsArgumentCaptor = ArgumentCaptor.forClass(DeliveryDailyStats.class);
+        verify(deliveryDailyStatsRepository).save(deliveryDailyStatsArgumentCaptor.capture());
+        assertEquals(1, deliveryDailyStatsArgumentCaptor.getValue().getDeliveries());
+        assertEquals(delivery.getTax(), deliveryDailyStatsArgumentCaptor.getValue().getTaxTotal());
+        verify(deliveryStatsCounterRepository).save(any(DeliveryStatsCounter.class));
+    }
+
+    @Test
+    void shouldMoveCountFromPending_whenDeliveriesWereTransitioned() {
+        when(deliveryStatsCounterRepository.increment(any(), anyLong())).thenReturn(1);
+
+        deliveryStatsService.deliveriesTransitioned(DeliveryStatus.FINALIZED, 2);
+
+        verify(deliveryStatsCounterRepository).increment("deliveries.PENDING", -2);
+        verify(deliveryStatsCounterRepository).increment("deliveries.FINALIZED", 2);
+    }
+
+    @Test
+    void shouldNotInsertOccurrenceCounter_whenDeliveryHadNoCounter() {
+        when(deliveryStatsCounterRepository.increment("occurrences", 1)).thenReturn(1);
+
+        deliveryStatsService.occurrenceAdded(VALID_DELIVERY_ID);
+
+        verify(deliveryOccurrenceCounterRepository).increment(VALID_DELIVERY_ID);
+        verify(deliveryOccurrenceCounterRepository, never()).save(any());
+        verify(deliveryStatsCounterRepository).increment("occurrences", 1);
+    }
+
+    @Test
+    void shouldCreateMissingOccurrenceCountersOnlyOnce_whenPrepareWasCalledTwice() {
+        runTransactionCallbacks();
+        when(deliveryStatsCounterRepository.count()).thenReturn(1L);
+
+        deliveryStatsService.prepare();
+        deliveryStatsService.prepare();
+
+        verify(deliveryOccurrenceCounterRepository, times(1)).insertMissing();
+        verify(transactionTemplate, times(5)).executeWithoutResult(any());
+        verify(deliveryStatsCounterRepository, never()).recountDeliveries(any(), any());
+    }
+
+    @Test
+    void shouldReturnStatsFromCounters() {
+        var from = LocalDate.of(2022, 7, 1);
+        var to = LocalDate.of(2022, 7, 31);
+        var dailyStats = DeliveryDailyStatsResponseDto.builder().orderedDay(from).deliveries(3L).taxTotal(new BigDecimal("3.3")).build();
+
+        when(deliveryStatsCounterRepository.findAll()).thenReturn(List.of(
+                DeliveryStatsCounter.builder().name("deliveries.PENDING").total(5).build(),
+                DeliveryStatsCounter.builder().name("occurrences").total(7).build()));
+        when(deliveryDailyStatsRepository.findAllBetween(from, to)).thenReturn(List.of(dailyStats));
+        when(deliveryOccurrenceCounterRepository.findMostOccurrences(any())).thenReturn(Collections.emptyList());
+
+        var deliveryStatsResponseDto = deliveryStatsService.find(DeliveryStatsFilterRequestDto.builder().from(from).to(to).build());
+
+        assertEquals(5L, deliveryStatsResponseDto.getDeliveriesByStatus().get(DeliveryStatus.PENDING));
+        assertEquals(0L, deliveryStatsResponseDto.getDeliveriesByStatus().get(DeliveryStatus.FINALIZED));
+        assertEquals(7L, deliveryStatsResponseDto.getOccurrences());
+        assertEquals(List.of(dailyStats), deliveryStatsResponseDto.getDailyStats());
+    }
+
+    @Test
+    void shouldRecountEachRowWithASingleUpdateInItsOwnTransaction_whenRebuildWasCalled() {
+        runTransactionCallbacks();
+        var deliveryResponseDto = deliveryResponseDtoValid();
+        var orderedDay = deliveryResponseDto.getOrderedDate().atZoneSameInstant(ZoneId.of("UTC")).toLocalDate();
+        when(deliveryRepository.streamAll(null, null, null, null)).thenReturn(Stream.of(deliveryResponseDto));
+        when(deliveryDailyStatsRepository.findAllOrderedDays()).thenReturn(List.of(orderedDay));
+        when(deliveryOccurrenceCounterRepository.findMaxDeliveryId()).thenReturn(1500L);
+
+        deliveryStatsService.rebuild();
+
+        Arrays.stream(DeliveryStatus.values()).forEach(deliveryStatus ->
+                verify(deliveryStatsCounterRepository).recountDeliveries("deliveries." + deliveryStatus.name(), deliveryStatus));
+        verify(deliveryStatsCounterRepository).recountOccurrences("occurrences");
+        ArgumentCaptor<List<DeliveryDailyStats>> deliveryDailyStatsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(deliveryDailyStatsRepository).saveAll(deliveryDailyStatsArgumentCaptor.capture());
+        assertEquals(orderedDay, deliveryDailyStatsArgumentCaptor.getValue().get(0).getOrderedDay());
+        assertEquals(0L, deliveryDailyStatsArgumentCaptor.getValue().get(0).getDeliveries());
+        verify(deliveryDailyStatsRepository).recount(orderedDay, orderedDay.atStartOfDay(ZoneId.of("UTC")).toOffsetDateTime(),
+                orderedDay.plusDays(1).atStartOfDay(ZoneId.of("UTC")).toOffsetDateTime());
+        verify(deliveryStatsCounterRepository, never()).increment(any(), anyLong());
+        verify(deliveryOccurrenceCounterRepository).insertMissing();
+        verify(deliveryOccurrenceCounterRepository).recountBetween(0, 999);
+        verify(deliveryOccurrenceCounterRepository).recountBetween(1000, 1999);
+        // contadores, um recount por status, ocorrências, dias faltantes, um por dia, insertMissing e duas faixas
+        verify(transactionTemplate, times(1 + DeliveryStatus.values().length + 1 + 1 + 1 + 1 + 2)).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenPeriodWasInvalid() {
+        var filter = DeliveryStatsFilterRequestDto.builder().from(LocalDate.of(2022, 7, 31)).to(LocalDate.of(2022, 7, 1)).build();
+
+        var businessException = assertThrows(BusinessException.class, () -> deliveryStatsService.find(filter));
+
+        assertEquals(DataForBusinessException.INVALID_INPUT.getMessage(), businessException.getMessage());
+    }
+
+}
@@ -12,9 +12,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static com.neylandev.delivery.DataForTests.INVALID_DELIVERY_ID;
+import static com.neylandev.delivery.DataForTests.VALID_DELIVERY_ID;
+import static com.neylandev.delivery.DataForTests.deliveryResponseDtoValid;
 import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,4 +52,43 @@ class FindDeliveryServiceTest {
                 () -> findDeliveryService.find(INVALID_DELIVERY_ID),
                 DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindDeliveryResponse() {
+        var deliveryResponseDto = deliveryResponseDtoValid();
+
+        when(deliveryRepository.findResponseById(deliveryResponseDto.getId())).thenReturn(Optional.of(deliveryResponseDto));
+
+        assertEquals(deliveryResponseDto, findDeliveryService.findResponse(deliveryResponseDto.getId()));
+        verify(deliveryRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenDeliveryResponseNotFound() {
+
+        when(deliveryRepository.findResponseById(INVALID_DELIVERY_ID)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class,
+                () -> findDeliveryService.findResponse(INVALID_DELIVERY_ID),
+                DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    void shouldNotThrow_whenDeliveryExists() {
+
+        when(deliveryRepository.existsById(VALID_DELIVERY_ID)).thenReturn(true);
+
+        assertDoesNotThrow(() -> findDeliveryService.checkExists(VALID_DELIVERY_ID));
+        verify(deliveryRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenDeliveryDoesNotExist() {
+
+        when(deliveryRepository.existsById(INVALID_DELIVERY_ID)).thenReturn(false);
+
+        assertThrows(BusinessException.class,
+                () -> findDeliveryService.checkExists(INVALID_DELIVERY_ID),
+                DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+    }
+}
@@ -0,0 +1,157 @@
+package com.neylandev.delivery.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neylandev.delivery.application.response.ClientResponseDto;
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.domain.utils.Constants;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
+import com.neylandev.delivery.infrastructure.idempotency.IdempotencyStore;
+import com.neylandev.delivery.infrastructure.idempotency.IdempotentResponse;
+import com.neylandev.delivery.infrastructure.idempotency.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
+import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.clientResponseDtoValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private static final String IDEMPOTENCY_KEY = "a1b2c3";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyService idempotencyService;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new InMemoryIdempotencyStore(100, Duration.ofMinutes(1)), objectMapper);
+        executions = new AtomicInteger();
+    }
+
+    private Supplier<ResponseEntity<ClientResponseDto>> create() {
+        return () -> {
+            executions.incrementAndGet();
+            return new ResponseEntity<>(clientResponseDtoValid(), HttpStatus.CREATED);
+        };
+    }
+
+    @Test
+    void shouldExecuteEveryTime_whenIdempotencyKeyWasNotPassed() {
+        idempotencyService.execute(null, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+        idempotencyService.execute(null, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void shouldReplayStoredResponse_whenIdempotencyKeyWasRepeated() {
+        var first = idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+        var second = idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+
+        assertEquals(1, executions.get());
+        assertNull(first.getHeaders().getFirst(Constants.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals("true", second.getHeaders().getFirst(Constants.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(VALID_CLIENT_ID, second.getBody().getId());
+        assertEquals(first.getBody().getEmail(), second.getBody().getEmail());
+    }
+
+    @Test
+    void shouldScopeIdempotencyKeyByOperation() {
+        idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+        idempotencyService.execute(IDEMPOTENCY_KEY, "deliveries", clientRequestDtoValid(), ClientResponseDto.class, create());
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenIdempotencyKeyWasReusedWithAnotherRequest() {
+        idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+        var otherRequest = clientRequestDtoValid();
+        otherRequest.setName("Outro Nome");
+
+        var businessException = assertThrows(BusinessException.class, () -> idempotencyService
+                .execute(IDEMPOTENCY_KEY, "clients", otherRequest, ClientResponseDto.class, create()));
+
+        assertEquals(DataForBusinessException.INVALID_INPUT.getMessage(), businessException.getMessage());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenIdempotencyKeyIsTooLong() {
+        var idempotencyKey = "a".repeat(Constants.MAX_IDEMPOTENCY_KEY_LENGTH + 1);
+
+        assertThrows(BusinessException.class, () -> idempotencyService
+                .execute(idempotencyKey, "clients", clientRequestDtoValid(), ClientResponseDto.class, create()));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void shouldNotStoreResponse_whenActionFailed() {
+        assertThrows(BusinessException.class, () -> idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(),
+                ClientResponseDto.class, () -> {
+                    throw DataForBusinessException.CLIENT_NOT_FOUND.asBusinessExceptionWithDescriptionFormatted("1");
+                }));
+
+        idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayResponseOfOtherNode_whenStoreReportedDuplicateKey() throws Exception {
+        var idempotencyStore = mock(IdempotencyStore.class);
+        idempotencyService = new IdempotencyService(idempotencyStore, objectMapper);
+        var fingerprint = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(clientRequestDtoValid()));
+        var storedByOtherNode = IdempotentResponse.builder()
+                .fingerprint(fingerprint)
+                .status(HttpStatus.CREATED.value())
+                .body(objectMapper.writeValueAsString(clientResponseDtoValid()))
+                .build();
+        var duplicateKey = new DataIntegrityViolationException("duplicate key");
+        when(idempotencyStore.find(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedByOtherNode));
+        when(idempotencyStore.save(anyString(), any(Supplier.class))).thenThrow(duplicateKey);
+
+        var response = idempotencyService.execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create());
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(VALID_CLIENT_ID, response.getBody().getId());
+        assertEquals("true", response.getHeaders().getFirst(Constants.IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRethrowDuplicateKey_whenOtherNodeResponseWasNotFound() {
+        var idempotencyStore = mock(IdempotencyStore.class);
+        idempotencyService = new IdempotencyService(idempotencyStore, objectMapper);
+        var duplicateKey = new DataIntegrityViolationException("duplicate key");
+        when(idempotencyStore.find(anyString())).thenReturn(Optional.empty());
+        when(idempotencyStore.save(anyString(), any(Supplier.class))).thenThrow(duplicateKey);
+
+        assertSame(duplicateKey, assertThrows(DataIntegrityViolationException.class, () -> idempotencyService
+                .execute(IDEMPOTENCY_KEY, "clients", clientRequestDtoValid(), ClientResponseDto.class, create())));
+    }
+}
@@ -1,14 +1,20 @@
 package com.neylandev.delivery.domain.service;
 
+import com.neylandev.delivery.application.response.OccurrenceResponseDto;
 import com.neylandev.delivery.domain.enums.DataForBusinessException;
 import com.neylandev.delivery.domain.model.Occurrence;
 import com.neylandev.delivery.domain.repository.OccurrenceRepository;
+import com.neylandev.delivery.domain.utils.Constants;
 import com.neylandev.delivery.infrastructure.exception.BusinessException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
 
 import static com.neylandev.delivery.DataForTests.INVALID_DELIVERY_ID;
 import static com.neylandev.delivery.DataForTests.VALID_DELIVERY_ID;
@@ -16,8 +22,13 @@ import static com.neylandev.delivery.DataForTests.VALID_DESCRIPTION;
 import static com.neylandev.delivery.DataForTests.VALID_OCCURRENCE_ID;
 import static com.neylandev.delivery.DataForTests.deliveryValid;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,12 @@ class OccurrenceServiceTest {
     @Mock
     private OccurrenceRepository occurrenceRepository;
 
+    @Mock
+    private DeliveryEventService deliveryEventService;
+
+    @Mock
+    private DeliveryStatsService deliveryStatsService;
+
     @Test
     void shouldRegisterOccurrence() {
         var delivery = deliveryValid();
@@ -42,6 +59,9 @@ class OccurrenceServiceTest {
         var occurrenceResponseDto = occurrenceService.registerOccurrence(VALID_DELIVERY_ID, VALID_DESCRIPTION);
 
         assertEquals(delivery.getId(), occurrenceResponseDto.getDeliveryId());
+        verify(deliveryEventService).occurrenceAdded(delivery, occurrenceResponseDto);
+        verify(deliveryStatsService).occurrenceAdded(VALID_DELIVERY_ID);
+        verify(findDeliveryService).evict(VALID_DELIVERY_ID);
     }
 
     @Test
@@ -58,26 +78,45 @@ class OccurrenceServiceTest {
 
     @Test
     void shouldReturnAllOccurrencesOfDelivery() {
-        var delivery = deliveryValid();
-        delivery.getOccurrences().iterator().next().setId(VALID_OCCURRENCE_ID);
+        var occurrenceResponseDto = OccurrenceResponseDto.builder()
+                .id(VALID_OCCURRENCE_ID)
+                .description(VALID_DESCRIPTION)
+                .deliveryId(VALID_DELIVERY_ID)
+                .build();
+
+        when(occurrenceRepository.findByDeliveryId(VALID_DELIVERY_ID, PageRequest.of(0, Constants.DEFAULT_PAGE_SIZE)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(occurrenceResponseDto)));
+
+        var occurrencePageResponseDto = occurrenceService.findAllOccurrencesOfDelivery(VALID_DELIVERY_ID, null, null);
+
+        verify(findDeliveryService).checkExists(VALID_DELIVERY_ID);
+        verify(findDeliveryService, never()).find(any());
+        assertEquals(VALID_DELIVERY_ID, occurrencePageResponseDto.getContent().iterator().next().getDeliveryId());
+        assertEquals(VALID_DESCRIPTION, occurrencePageResponseDto.getContent().iterator().next().getDescription());
+        assertFalse(occurrencePageResponseDto.getHasNext());
+    }
 
-        when(findDeliveryService.find(VALID_DELIVERY_ID)).thenReturn(delivery);
+    @Test
+    void shouldLimitPageSize_whenFindAllOccurrencesOfDeliveryWasCalledWithLargeSize() {
+        when(occurrenceRepository.findByDeliveryId(VALID_DELIVERY_ID, PageRequest.of(1, Constants.MAX_PAGE_SIZE)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
-        var occurrenceResponseDtoList = occurrenceService.findAllOccurrencesOfDelivery(VALID_DELIVERY_ID);
+        var occurrencePageResponseDto = occurrenceService.findAllOccurrencesOfDelivery(VALID_DELIVERY_ID, 1, Constants.MAX_PAGE_SIZE + 1);
 
-        assertEquals(delivery.getOccurrences().iterator().next().getId(), occurrenceResponseDtoList.iterator().next().getDeliveryId());
-        assertEquals(delivery.getOccurrences().iterator().next().getDescription(), occurrenceResponseDtoList.iterator().next().getDescription());
+        assertEquals(1, occurrencePageResponseDto.getPage());
+        assertEquals(Constants.MAX_PAGE_SIZE, occurrencePageResponseDto.getSize());
     }
 
     @Test
     void shouldThrowBusinessException_whenDeliveryNotFoundAndFindAllOccurrencesOfDeliveryWasCalled() {
 
-        when(findDeliveryService.find(INVALID_DELIVERY_ID))
-                .thenThrow(DataForBusinessException.DELIVERY_NOT_FOUND
-                        .asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)));
+        doThrow(DataForBusinessException.DELIVERY_NOT_FOUND
+                .asBusinessExceptionWithDescriptionFormatted(Long.toString(INVALID_DELIVERY_ID)))
+                .when(findDeliveryService).checkExists(INVALID_DELIVERY_ID);
 
         assertThrows(BusinessException.class,
-                () -> occurrenceService.findAllOccurrencesOfDelivery(INVALID_DELIVERY_ID),
+                () -> occurrenceService.findAllOccurrencesOfDelivery(INVALID_DELIVERY_ID, null, null),
                 DataForBusinessException.DELIVERY_NOT_FOUND.getMessage());
+        verifyNoInteractions(occurrenceRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static com.neylandev.delivery.DataForTests.VALID_CLIENT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor_whenValueContainsSeparator() {
+        var cursor = ClientCursor.decode(new ClientCursor("Teste|Santos", VALID_CLIENT_ID).encode());
+
+        assertEquals("Teste|Santos", cursor.getValue());
+        assertEquals(VALID_CLIENT_ID, cursor.getId());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenCursorHasNoId() {
+        var cursor = Base64.getUrlEncoder().encodeToString("Teste dos Santos".getBytes());
+
+        assertThrows(BusinessException.class, () -> ClientCursor.decode(cursor),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+    }
+}
@@ -0,0 +1,38 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.domain.enums.DataForBusinessException;
+import com.neylandev.delivery.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeliveryCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        var delivery = deliveryValid();
+
+        var cursor = DeliveryCursor.decode(DeliveryCursor.of(delivery).encode());
+
+        assertEquals(delivery.getId(), cursor.getId());
+        assertEquals(delivery.getOrderedDate(), cursor.getOrderedDate());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenCursorIsNotBase64() {
+        assertThrows(BusinessException.class, () -> DeliveryCursor.decode("%%%"),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+    }
+
+    @Test
+    void shouldThrowBusinessException_whenCursorHasNoId() {
+        var cursor = Base64.getUrlEncoder().encodeToString("2022-07-28T11:00:03-03:00".getBytes());
+
+        assertThrows(BusinessException.class, () -> DeliveryCursor.decode(cursor),
+                DataForBusinessException.INVALID_INPUT.getMessage());
+    }
+}
@@ -0,0 +1,26 @@
+package com.neylandev.delivery.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PageSizesTest {
+
+    @Test
+    void shouldReturnDefaultPageSize_whenSizeIsNullOrNotPositive() {
+        assertEquals(Constants.DEFAULT_PAGE_SIZE, PageSizes.clamp(null));
+        assertEquals(Constants.DEFAULT_PAGE_SIZE, PageSizes.clamp(0));
+        assertEquals(Constants.DEFAULT_PAGE_SIZE, PageSizes.clamp(-1));
+    }
+
+    @Test
+    void shouldLimitPageSize_whenSizeIsAboveMaximum() {
+        assertEquals(Constants.MAX_PAGE_SIZE, PageSizes.clamp(Constants.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void shouldKeepPageSize_whenSizeIsWithinLimits() {
+        assertEquals(1, PageSizes.clamp(1));
+        assertEquals(Constants.MAX_PAGE_SIZE, PageSizes.clamp(Constants.MAX_PAGE_SIZE));
+    }
+}
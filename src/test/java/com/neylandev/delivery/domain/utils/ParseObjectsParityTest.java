@@ -0,0 +1,124 @@
+package com.neylandev.delivery.domain.utils;
+
+import com.neylandev.delivery.application.request.ClientRequestDto;
+import com.neylandev.delivery.application.request.DeliveryRequestDto;
+import com.neylandev.delivery.application.response.ClientResponseDto;
+import com.neylandev.delivery.application.response.DeliveryResponseDto;
+import com.neylandev.delivery.application.response.OccurrenceResponseDto;
+import com.neylandev.delivery.domain.model.Client;
+import com.neylandev.delivery.domain.model.Delivery;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.OffsetDateTime;
+
+import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.clientValid;
+import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static com.neylandev.delivery.DataForTests.occurrenceValid;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ParseObjectsParityTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void clientToClientResponseDto() {
+        var client = clientValid();
+
+        assertThat(ParseObjects.clientToClientResponseDto(client))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(client, ClientResponseDto.class));
+    }
+
+    @Test
+    void clientToClientResponseDto_withNullFields() {
+        var client = Client.builder().id(1L).build();
+
+        assertThat(ParseObjects.clientToClientResponseDto(client))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(client, ClientResponseDto.class));
+    }
+
+    @Test
+    void clientRequestDtoToClient() {
+        var clientRequestDto = clientRequestDtoValid();
+
+        assertThat(ParseObjects.clientRequestDtoToClient(clientRequestDto))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(clientRequestDto, Client.class));
+    }
+
+    @Test
+    void deliveryToDeliveryResponseDto() {
+        var delivery = deliveryValid();
+
+        assertThat(ParseObjects.deliveryToDeliveryResponseDto(delivery))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(delivery, DeliveryResponseDto.class));
+    }
+
+    @Test
+    void deliveryToDeliveryResponseDto_whenDeliveryWasFinalized() {
+        var delivery = deliveryValid();
+        delivery.complete();
+        delivery.setEndDate(OffsetDateTime.now());
+
+        assertThat(ParseObjects.deliveryToDeliveryResponseDto(delivery))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(delivery, DeliveryResponseDto.class));
+    }
+
+    @Test
+    void deliveryToDeliveryResponseDto_withoutClientAndRecipient() {
+        var delivery = deliveryValid();
+        delivery.setClient(null);
+        delivery.setRecipient(null);
+
+        assertThat(ParseObjects.deliveryToDeliveryResponseDto(delivery))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(delivery, DeliveryResponseDto.class));
+    }
+
+    /*
+     * O ModelMapper também casava clientId com Delivery.id, fazendo o save de uma nova entrega
+     * virar um merge sobre a entrega de mesmo id; o parse direto deixa o id nulo.
+     */
+    @Test
+    void deliveryRequestDtoToDelivery() {
+        var deliveryRequestDto = deliveryRequestDtoValid();
+
+        var delivery = ParseObjects.deliveryRequestDtoToDelivery(deliveryRequestDto);
+
+        assertNull(delivery.getId());
+        assertThat(delivery)
+                .usingRecursiveComparison()
+                .ignoringFields("id")
+                .isEqualTo(modelMapper.map(deliveryRequestDto, Delivery.class));
+    }
+
+    @Test
+    void deliveryRequestDtoToDelivery_withoutComplement() {
+        var deliveryRequestDto = deliveryRequestDtoValid();
+        deliveryRequestDto.setRecipientComplement(null);
+
+        var delivery = ParseObjects.deliveryRequestDtoToDelivery(deliveryRequestDto);
+
+        assertNull(delivery.getId());
+        assertThat(delivery)
+                .usingRecursiveComparison()
+                .ignoringFields("id")
+                .isEqualTo(modelMapper.map(deliveryRequestDto, Delivery.class));
+    }
+
+    @Test
+    void occurrenceToOccurrenceResponseDto() {
+        var occurrence = occurrenceValid();
+
+        assertThat(ParseObjects.occurrenceToOccurrenceResponseDto(occurrence))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(occurrence, OccurrenceResponseDto.class));
+    }
+}
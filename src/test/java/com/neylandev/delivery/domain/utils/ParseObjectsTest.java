@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 
 import static com.neylandev.delivery.DataForTests.clientRequestDtoValid;
+import static com.neylandev.delivery.DataForTests.clientResponseDtoValid;
 import static com.neylandev.delivery.DataForTests.clientValid;
 import static com.neylandev.delivery.DataForTests.deliveryRequestDtoValid;
 import static com.neylandev.delivery.DataForTests.deliveryValid;
@@ -23,6 +24,16 @@ class ParseObjectsTest {
         assertEquals(client.getName(), clientResponseDto.getName());
     }
 
+    @Test
+    void clientResponseDtoToClient() {
+        var clientResponseDto = clientResponseDtoValid();
+        var client = ParseObjects.clientResponseDtoToClient(clientResponseDto);
+        assertEquals(clientResponseDto.getId(), client.getId());
+        assertEquals(clientResponseDto.getEmail(), client.getEmail());
+        assertEquals(clientResponseDto.getTelephone(), client.getTelephone());
+        assertEquals(clientResponseDto.getName(), client.getName());
+    }
+
     @Test
     void clientRequestDtoToClient() {
         var clientRequestDto = clientRequestDtoValid();
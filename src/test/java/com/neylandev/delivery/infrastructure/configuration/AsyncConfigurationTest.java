@@ -0,0 +1,168 @@
+package com.neylandev.delivery.infrastructure.configuration;
+
+import com.neylandev.delivery.domain.utils.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigurationTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSizeEmailExecutorFromProperties() {
+        executor = initialize(asyncConfiguration(2, 4, 500, AsyncConfiguration.RejectionPolicy.CALLER_RUNS).emailTaskExecutor());
+
+        assertEquals(2, executor.getCorePoolSize());
+        assertEquals(4, executor.getMaxPoolSize());
+        assertEquals(500, executor.getThreadPoolExecutor().getQueue().remainingCapacity());
+    }
+
+    @Test
+    void shouldBoundMvcExecutor() {
+        var asyncConfiguration = asyncConfiguration(1, 1, 1, AsyncConfiguration.RejectionPolicy.CALLER_RUNS);
+        ReflectionTestUtils.setField(asyncConfiguration, "mvcCorePoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfiguration, "mvcMaxPoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfiguration, "mvcQueueCapacity", 1);
+        executor = initialize(asyncConfiguration.mvcTaskExecutor());
+        fill(executor);
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    void shouldStartAThreadPerConcurrentEventWrite_untilMaxPoolSize() {
+        var asyncConfiguration = asyncConfiguration(1, 1, 1, AsyncConfiguration.RejectionPolicy.CALLER_RUNS);
+        ReflectionTestUtils.setField(asyncConfiguration, "eventsPoolSize", 1);
+        ReflectionTestUtils.setField(asyncConfiguration, "eventsMaxPoolSize", 2);
+        executor = initialize(asyncConfiguration.deliveryEventTaskExecutor());
+        var started = new CountDownLatch(2);
+
+        executor.execute(() -> {
+            started.countDown();
+            await();
+        });
+        executor.execute(() -> {
+            started.countDown();
+            await();
+        });
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEquals(0, executor.getThreadPoolExecutor().getQueue().size());
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    void shouldRunOnCallerThread_whenPolicyIsCallerRuns() {
+        executor = initialize(asyncConfiguration(1, 1, 1, AsyncConfiguration.RejectionPolicy.CALLER_RUNS).emailTaskExecutor());
+        fill(executor);
+        var thread = new AtomicReference<Thread>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertEquals(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    void shouldThrow_whenPolicyIsAbort() {
+        executor = initialize(asyncConfiguration(1, 1, 1, AsyncConfiguration.RejectionPolicy.ABORT).emailTaskExecutor());
+        fill(executor);
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    void shouldDropTaskAndCountRejection_whenPolicyIsDiscard() throws Exception {
+        var asyncConfiguration = asyncConfiguration(1, 1, 1, AsyncConfiguration.RejectionPolicy.DISCARD);
+        executor = initialize(asyncConfiguration.emailTaskExecutor());
+        var meterRegistry = new SimpleMeterRegistry();
+        asyncConfiguration.emailTaskExecutorMetrics(executor).bindTo(meterRegistry);
+        fill(executor);
+        var ran = new CountDownLatch(1);
+
+        executor.execute(ran::countDown);
+        release.countDown();
+
+        assertFalse(ran.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get("executor.rejected")
+                .tag("name", Constants.EMAIL_TASK_EXECUTOR)
+                .tag("policy", AsyncConfiguration.RejectionPolicy.DISCARD.name())
+                .functionCounter().count());
+    }
+
+    @Test
+    void shouldBindExecutorMetrics() {
+        var asyncConfiguration = asyncConfiguration(2, 4, 500, AsyncConfiguration.RejectionPolicy.CALLER_RUNS);
+        executor = initialize(asyncConfiguration.emailTaskExecutor());
+        var meterRegistry = new SimpleMeterRegistry();
+
+        asyncConfiguration.emailTaskExecutorMetrics(executor).bindTo(meterRegistry);
+
+        assertEquals(0, meterRegistry.get("executor.pool.size").tag("name", Constants.EMAIL_TASK_EXECUTOR).gauge().value());
+        assertEquals(0, meterRegistry.get("executor.queued").tag("name", Constants.EMAIL_TASK_EXECUTOR).gauge().value());
+        assertTrue(meterRegistry.find("executor.rejected").tag("name", Constants.EMAIL_TASK_EXECUTOR).functionCounter() != null);
+    }
+
+    private AsyncConfiguration asyncConfiguration(int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                  AsyncConfiguration.RejectionPolicy rejectionPolicy) {
+        var asyncConfiguration = new AsyncConfiguration();
+        ReflectionTestUtils.setField(asyncConfiguration, "corePoolSize", corePoolSize);
+        ReflectionTestUtils.setField(asyncConfiguration, "maxPoolSize", maxPoolSize);
+        ReflectionTestUtils.setField(asyncConfiguration, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(asyncConfiguration, "rejectionPolicy", rejectionPolicy);
+        return asyncConfiguration;
+    }
+
+    private ThreadPoolTaskExecutor initialize(ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
+
+    // ocupa a única thread e a única vaga da fila até o fim do teste
+    private void fill(ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+        var started = new CountDownLatch(1);
+        threadPoolTaskExecutor.execute(() -> {
+            started.countDown();
+            await();
+        });
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        threadPoolTaskExecutor.execute(this::await);
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
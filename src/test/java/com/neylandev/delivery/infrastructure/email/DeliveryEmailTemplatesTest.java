@@ -0,0 +1,66 @@
+package com.neylandev.delivery.infrastructure.email;
+
+import com.neylandev.delivery.domain.model.Recipient;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Locale;
+
+import static com.neylandev.delivery.DataForTests.VALID_RECIPIENT_NAME;
+import static com.neylandev.delivery.DataForTests.deliveryEmailTemplates;
+import static com.neylandev.delivery.DataForTests.deliveryValid;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeliveryEmailTemplatesTest {
+
+    private final DeliveryEmailTemplates deliveryEmailTemplates = deliveryEmailTemplates();
+
+    @Test
+    void shouldEscapeHtmlOnlyInTheBody() {
+        var delivery = deliveryValid();
+        delivery.getClient().setName("Tom & Jerry");
+        delivery.complete();
+
+        var deliveryEmailDto = deliveryEmailTemplates.render(delivery);
+
+        assertEquals("Produto recebido com sucesso", deliveryEmailDto.getSubject());
+        assertEquals("<p>O produto de Tom &amp; Jerry foi recebido por " + VALID_RECIPIENT_NAME + "</p>", deliveryEmailDto.getBody());
+    }
+
+    @Test
+    void shouldRenderCancelledTemplate_whenDeliveryWasCancelled() {
+        var delivery = deliveryValid();
+        delivery.cancel();
+
+        var deliveryEmailDto = deliveryEmailTemplates.render(delivery);
+
+        assertEquals("O envio do produto foi cancelado", deliveryEmailDto.getSubject());
+    }
+
+    @Test
+    void shouldRenderEmptyNames_whenClientAndRecipientNamesWereNull() {
+        var delivery = deliveryValid();
+        delivery.getClient().setName(null);
+        delivery.setRecipient(Recipient.builder().build());
+        delivery.complete();
+
+        var deliveryEmailDto = deliveryEmailTemplates.render(delivery);
+
+        assertEquals("<p>O produto de  foi recebido por </p>", deliveryEmailDto.getBody());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenDeliveryIsStillPending() {
+        var delivery = deliveryValid();
+
+        assertThrows(IllegalArgumentException.class, () -> deliveryEmailTemplates.render(delivery));
+    }
+
+    @Test
+    void shouldFailFast_whenLocaleHasNoTemplate() {
+        var resourceLoader = new DefaultResourceLoader();
+
+        assertThrows(IllegalStateException.class, () -> new DeliveryEmailTemplates(Locale.ENGLISH, resourceLoader));
+    }
+}
@@ -0,0 +1,170 @@
+package com.neylandev.delivery.infrastructure.sse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DeliveryEventSubscriberTest {
+
+    private static final int BUFFER_SIZE = 2;
+    private static final long WRITE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+
+    @Test
+    void shouldWriteBufferedEventsInOrder_whenExecutorRuns() throws IOException {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+
+        assertEquals(DeliveryEventSubscriber.Offer.ACCEPTED, subscriber.offer(message(1L, 1L)));
+        assertEquals(DeliveryEventSubscriber.Offer.ACCEPTED, subscriber.offer(message(2L, 1L)));
+        assertEquals(1, pendingWrites.size());
+
+        runPendingWrites();
+
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(0, subscriber.buffered());
+    }
+
+    @Test
+    void shouldDropOldestEvent_whenBufferIsFullAndPolicyIsDropOldest() {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.offer(message(2L, 1L));
+
+        assertEquals(DeliveryEventSubscriber.Offer.DROPPED, subscriber.offer(message(3L, 1L)));
+        assertEquals(BUFFER_SIZE, subscriber.buffered());
+    }
+
+    @Test
+    void shouldDropNewestEvent_whenBufferIsFullAndPolicyIsDropNewest() {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_NEWEST, pendingWrites::add);
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.offer(message(2L, 1L));
+
+        assertEquals(DeliveryEventSubscriber.Offer.DROPPED, subscriber.offer(message(3L, 1L)));
+        assertEquals(BUFFER_SIZE, subscriber.buffered());
+    }
+
+    @Test
+    void shouldCompleteEmitter_whenBufferIsFullAndPolicyIsDisconnect() {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DISCONNECT, pendingWrites::add);
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.offer(message(2L, 1L));
+
+        assertEquals(DeliveryEventSubscriber.Offer.DISCONNECTED, subscriber.offer(message(3L, 1L)));
+        assertEquals(DeliveryEventSubscriber.Offer.DISCONNECTED, subscriber.offer(message(4L, 1L)));
+        assertEquals(0, subscriber.buffered());
+        verify(emitter).complete();
+    }
+
+    @Test
+    void shouldStopWriting_whenConnectionFails() throws IOException {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.offer(message(2L, 1L));
+        runPendingWrites();
+
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).completeWithError(any(IOException.class));
+        assertEquals(DeliveryEventSubscriber.Offer.DISCONNECTED, subscriber.offer(message(3L, 1L)));
+    }
+
+    @Test
+    void shouldSkipHeartbeat_whenWriteIsAlreadyScheduled() throws IOException {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.heartbeat();
+        assertEquals(1, pendingWrites.size());
+
+        runPendingWrites();
+        subscriber.heartbeat();
+        assertEquals(1, pendingWrites.size());
+        runPendingWrites();
+
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void shouldAcceptOnlyEventsOfClient_whenClientIdWasPassed() throws IOException {
+        var subscriber = new DeliveryEventSubscriber(emitter, 1L, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+
+        assertTrue(subscriber.accepts(message(1L, 1L)));
+        assertFalse(subscriber.accepts(message(2L, 2L)));
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void shouldDisconnectAfterSendReturns_whenSendExceededWriteTimeout() throws IOException {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+        var stalled = new ArrayList<Boolean>();
+        doAnswer(invocation -> stalled.add(subscriber.disconnectIfStalled(System.nanoTime() + WRITE_TIMEOUT_NANOS + 1, WRITE_TIMEOUT_NANOS)))
+                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        subscriber.offer(message(1L, 1L));
+        subscriber.offer(message(2L, 1L));
+        runPendingWrites();
+
+        assertEquals(List.of(true), stalled);
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).completeWithError(any(TimeoutException.class));
+        assertEquals(0, subscriber.buffered());
+        assertEquals(DeliveryEventSubscriber.Offer.DISCONNECTED, subscriber.offer(message(3L, 1L)));
+    }
+
+    @Test
+    void shouldNotDisconnect_whenNoSendIsInProgress() {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST, pendingWrites::add);
+
+        subscriber.offer(message(1L, 1L));
+
+        assertFalse(subscriber.disconnectIfStalled(System.nanoTime() + WRITE_TIMEOUT_NANOS + 1, WRITE_TIMEOUT_NANOS));
+        assertEquals(DeliveryEventSubscriber.Offer.ACCEPTED, subscriber.offer(message(2L, 1L)));
+    }
+
+    @Test
+    void shouldDisconnect_whenExecutorRejectsWrite() {
+        var subscriber = new DeliveryEventSubscriber(emitter, null, BUFFER_SIZE, DeliveryEventSubscriber.OverflowPolicy.DROP_OLDEST,
+                runnable -> {
+                    throw new RejectedExecutionException("pool cheio");
+                });
+
+        subscriber.offer(message(1L, 1L));
+
+        verify(emitter).completeWithError(any(RejectedExecutionException.class));
+        assertEquals(DeliveryEventSubscriber.Offer.DISCONNECTED, subscriber.offer(message(2L, 1L)));
+    }
+
+    private void runPendingWrites() {
+        var writes = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        writes.forEach(Runnable::run);
+    }
+
+    private DeliveryEventMessage message(Long id, Long clientId) {
+        return new DeliveryEventMessage(id, "CREATED", clientId, "{}");
+    }
+}